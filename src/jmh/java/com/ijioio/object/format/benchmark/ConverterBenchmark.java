@@ -0,0 +1,116 @@
+package com.ijioio.object.format.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.annotation.FormatElement;
+import com.ijioio.object.format.annotation.FormatType;
+import com.ijioio.object.format.converter.ConverterRegistry;
+import com.ijioio.object.format.test.ObjectFormatterTest.F1Driver;
+import com.ijioio.object.format.test.builder.BookingBuilder;
+import com.ijioio.object.format.test.converter.ObjectFormatterConverterCollectionElementTest;
+import com.ijioio.object.format.test.converter.ObjectFormatterConverterElementTest;
+
+/**
+ * Measures formatting with converters and delegate configurations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+	private ObjectFormatterConverterElementTest.Booking booking;
+
+	private ObjectFormatterConverterCollectionElementTest.Booking segmentedBooking;
+
+	private F1Driver driver;
+
+	private ObjectFormatter converterFormat;
+
+	private ObjectFormatter collectionConverterFormat;
+
+	private ObjectFormatter delegateFormat;
+
+	@Setup
+	public void setup() {
+
+		ConverterRegistry.get().register(ObjectFormatterConverterElementTest.Passenger.class,
+				new ObjectFormatterConverterElementTest.PassengerDefaultConverter());
+		ConverterRegistry.get().register(ObjectFormatterConverterCollectionElementTest.Segment.class,
+				new ObjectFormatterConverterCollectionElementTest.SegmentDefaultConverter());
+
+		booking = BookingBuilder.of(ObjectFormatterConverterElementTest.Booking.class) //
+				.number("1234567890") //
+				.passenger(ObjectFormatterConverterElementTest.Passenger.class) //
+				.firstName("Donald") //
+				.lastName("Heathfield") //
+				.end() //
+				.build();
+
+		segmentedBooking = BookingBuilder.of(ObjectFormatterConverterCollectionElementTest.Booking.class) //
+				.number("1234567890") //
+				.segment(ObjectFormatterConverterCollectionElementTest.Segment.class) //
+				.pnr("B92X4Q") //
+				.end() //
+				.segment(ObjectFormatterConverterCollectionElementTest.Segment.class) //
+				.pnr("N38R5E") //
+				.end() //
+				.build();
+
+		driver = F1Driver.builder() //
+				.firstName("Lewis") //
+				.lastName("Hamilton") //
+				.build();
+
+		Configuration configuration = Configuration.builder() //
+				.delegateConfiguration() //
+				.delegate(F1Driver.class, F1DriverDelegate.class) //
+				.end() //
+				.build();
+
+		converterFormat = ObjectFormatter.of("${id=number} ${id=passenger}");
+		collectionConverterFormat = ObjectFormatter.of("${id=number} ${id=segments}");
+		delegateFormat = ObjectFormatter.of("${id=driver:name} ${id=driver:surname}", configuration);
+	}
+
+	@Benchmark
+	public String formatConverter() {
+		return converterFormat.format(booking, Locale.ENGLISH);
+	}
+
+	@Benchmark
+	public String formatCollectionConverter() {
+		return collectionConverterFormat.format(segmentedBooking, Locale.ENGLISH);
+	}
+
+	@Benchmark
+	public String formatDelegate() {
+		return delegateFormat.format(driver, Locale.ENGLISH);
+	}
+
+	@FormatType("driver")
+	public static class F1DriverDelegate {
+
+		@FormatElement("name")
+		private String firstName;
+
+		@FormatElement("surname")
+		private String lastName;
+	}
+}
@@ -0,0 +1,119 @@
+package com.ijioio.object.format.benchmark;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ijioio.object.format.FixedWidthObjectFormatter;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.test.ObjectFormatterTest.F1Driver;
+import com.ijioio.object.format.test.builder.BookingBuilder;
+import com.ijioio.object.format.test.converter.ObjectFormatterConverterCollectionSimpleTest;
+import com.ijioio.object.format.test.converter.ObjectFormatterConverterSimpleTest;
+
+/**
+ * Measures formatting of flat objects, nested objects and collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+	/**
+	 * Number of segments of the booking.
+	 */
+	@Param({ "1", "50" })
+	private int segments;
+
+	private F1Driver driver;
+
+	private ObjectFormatterConverterSimpleTest.Booking booking;
+
+	private ObjectFormatterConverterCollectionSimpleTest.Booking segmentedBooking;
+
+	private ObjectFormatter flatFormat;
+
+	private ObjectFormatter nestedFormat;
+
+	private ObjectFormatter collectionFormat;
+
+	private FixedWidthObjectFormatter fixedWidthFormat;
+
+	private char[] record;
+
+	@Setup
+	public void setup() {
+
+		driver = F1Driver.builder() //
+				.firstName("Lewis") //
+				.lastName("Hamilton") //
+				.middleName("Carl Davidson") //
+				.birthdate(LocalDate.of(1985, Month.JANUARY, 7)) //
+				.build();
+
+		booking = BookingBuilder.of(ObjectFormatterConverterSimpleTest.Booking.class) //
+				.number("1234567890") //
+				.passenger(ObjectFormatterConverterSimpleTest.Passenger.class) //
+				.firstName("Donald") //
+				.lastName("Heathfield") //
+				.end() //
+				.build();
+
+		BookingBuilder<ObjectFormatterConverterCollectionSimpleTest.Booking, ?, ObjectFormatterConverterCollectionSimpleTest.Segment, ?> builder = BookingBuilder
+				.of(ObjectFormatterConverterCollectionSimpleTest.Booking.class) //
+				.number("1234567890");
+
+		for (int i = 0; i < segments; i++) {
+			builder.segment(ObjectFormatterConverterCollectionSimpleTest.Segment.class).pnr("PNR" + i).end();
+		}
+
+		segmentedBooking = builder.build();
+
+		flatFormat = ObjectFormatter.of("${id=firstName} ${id=middleName} ${id=lastName} ${id=birthdate}");
+		nestedFormat = ObjectFormatter.of("${id=number} ${id=passenger|pattern=${id=firstName} ${id=lastName}}");
+		collectionFormat = ObjectFormatter.of("${id=number} ${id=segments|pattern=${id=pnr}|separator=; }");
+		fixedWidthFormat = ObjectFormatter.fixedWidth("${id=firstName|padding=-10}${id=middleName|padding=-10"
+				+ "|truncate=true}${id=lastName|padding=-10}${id=birthdate|pattern=yyyyMMdd|padding=8}");
+
+		record = new char[fixedWidthFormat.getRecordLength()];
+	}
+
+	@Benchmark
+	public String formatFlat() {
+		return flatFormat.format(driver, Locale.ENGLISH);
+	}
+
+	@Benchmark
+	public String formatNested() {
+		return nestedFormat.format(booking, Locale.ENGLISH);
+	}
+
+	@Benchmark
+	public char[] formatFixedWidth() {
+
+		fixedWidthFormat.formatTo(driver, Locale.ENGLISH, record, 0);
+
+		return record;
+	}
+
+	@Benchmark
+	public String formatCollection() {
+		return collectionFormat.format(segmentedBooking, Locale.ENGLISH);
+	}
+}
@@ -0,0 +1,96 @@
+package com.ijioio.object.format.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ijioio.object.format.ObjectFormatter;
+
+/**
+ * Measures standard number and date formatters with and without patterns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatterBenchmark {
+
+	private Invoice invoice;
+
+	private ObjectFormatter plainFormat;
+
+	private ObjectFormatter numberFormat;
+
+	private ObjectFormatter dateFormat;
+
+	private ObjectFormatter localDateFormat;
+
+	@Setup
+	public void setup() {
+
+		invoice = new Invoice(1234567, new BigDecimal("1234.5"),
+				new GregorianCalendar(2021, Calendar.MARCH, 14).getTime(), LocalDate.of(2021, Month.APRIL, 14));
+
+		plainFormat = ObjectFormatter.of("${id=number} ${id=amount} ${id=issued} ${id=due}");
+		numberFormat = ObjectFormatter.of("${id=number|pattern=000000000} ${id=amount|pattern=#,##0.00}");
+		dateFormat = ObjectFormatter.of("${id=issued|pattern=dd/MM/yyyy}");
+		localDateFormat = ObjectFormatter.of("${id=due|pattern=dd MMM yyyy}");
+	}
+
+	@Benchmark
+	public String formatPlain() {
+		return plainFormat.format(invoice, Locale.ENGLISH);
+	}
+
+	@Benchmark
+	public String formatNumber() {
+		return numberFormat.format(invoice, Locale.ENGLISH);
+	}
+
+	@Benchmark
+	public String formatDate() {
+		return dateFormat.format(invoice, Locale.ENGLISH);
+	}
+
+	@Benchmark
+	public String formatLocalDate() {
+		return localDateFormat.format(invoice, Locale.ENGLISH);
+	}
+
+	public static class Invoice {
+
+		private final int number;
+
+		private final BigDecimal amount;
+
+		private final Date issued;
+
+		private final LocalDate due;
+
+		private Invoice(int number, BigDecimal amount, Date issued, LocalDate due) {
+
+			this.number = number;
+			this.amount = amount;
+			this.issued = issued;
+			this.due = due;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.ijioio.object.format.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ijioio.object.format.ObjectFormatter;
+
+/**
+ * Measures parsing of the patterns.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+	private static final String FLAT_PATTERN = "${id=firstName} ${id=middleName|default=-} ${id=lastName} "
+			+ "'(born '${id=birthdate|pattern=dd.MM.yyyy}')'";
+
+	/**
+	 * Depth of the nested default variables. Parse time grows linearly with the
+	 * depth since every character is scanned once. With debug logging enabled it
+	 * grows quadratically instead, as each nested entry logs its whole text.
+	 */
+	@Param({ "1", "4", "16", "64", "256" })
+	private int depth;
+
+	private String nestedPattern;
+
+	@Setup
+	public void setup() {
+		nestedPattern = nest(depth);
+	}
+
+	static String nest(int depth) {
+
+		StringBuilder pattern = new StringBuilder();
+
+		for (int i = 0; i < depth; i++) {
+			pattern.append("${id=field").append(i).append("|default=");
+		}
+
+		pattern.append("none");
+
+		for (int i = 0; i < depth; i++) {
+			pattern.append("}");
+		}
+
+		return pattern.toString();
+	}
+
+	@Benchmark
+	public ObjectFormatter parseFlat() {
+		return ObjectFormatter.of(FLAT_PATTERN);
+	}
+
+	@Benchmark
+	public ObjectFormatter parseNested() {
+		return ObjectFormatter.of(nestedPattern);
+	}
+}
@@ -0,0 +1,119 @@
+package com.ijioio.object.format.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.MappedReportWriter;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.PipelinedReportWriter;
+import com.ijioio.object.format.test.ObjectFormatterTest.F1Driver;
+
+/**
+ * Measures writing reports to a file through a buffered {@link Writer},
+ * through the memory mapped {@link MappedReportWriter} and through the
+ * {@link PipelinedReportWriter} formatting and writing concurrently.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+
+	/**
+	 * Number of records of the report.
+	 */
+	@Param({ "10000", "1000000" })
+	private int records;
+
+	private List<F1Driver> drivers;
+
+	private ObjectFormatter format;
+
+	private Path path;
+
+	@Setup
+	public void setup() throws IOException {
+
+		drivers = new ArrayList<>(records);
+
+		for (int i = 0; i < records; i++) {
+			drivers.add(F1Driver.builder() //
+					.firstName("Lewis") //
+					.lastName("Hamilton" + i) //
+					.middleName("Carl Davidson") //
+					.birthdate(LocalDate.of(1985, Month.JANUARY, 7)) //
+					.build());
+		}
+
+		Configuration configuration = Configuration.builder() //
+				.recordSeparatorSequence("\n") //
+				.build();
+
+		format = ObjectFormatter.of("${id=firstName};${id=middleName};${id=lastName};${id=birthdate}", configuration);
+
+		path = Files.createTempFile("report", ".txt");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	@Benchmark
+	public long formatToWriter() throws IOException {
+
+		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			format.formatAll(drivers, Locale.ENGLISH, writer);
+		}
+
+		return Files.size(path);
+	}
+
+	@Benchmark
+	public long formatToMappedFile() throws IOException {
+
+		try (MappedReportWriter writer = MappedReportWriter.open(format, path, Locale.ENGLISH)) {
+
+			writer.writeAll(drivers);
+
+			return writer.getSize();
+		}
+	}
+
+	@Benchmark
+	public long formatToPipelinedFile() throws IOException {
+
+		try (PipelinedReportWriter writer = PipelinedReportWriter.open(format, path, Locale.ENGLISH,
+				Runtime.getRuntime().availableProcessors())) {
+
+			writer.writeAll(drivers);
+
+			return writer.getSize();
+		}
+	}
+}
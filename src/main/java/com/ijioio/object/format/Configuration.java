@@ -3,39 +3,98 @@ package com.ijioio.object.format;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import com.ijioio.object.format.Configuration.DelegateConfiguration.DelegateConfigurationBuilder;
 import com.ijioio.object.format.Configuration.ParserConfiguration.ParserConfigurationBuilder;
-
+import com.ijioio.object.format.converter.Converter;
+import com.ijioio.object.format.converter.ConverterRegistry;
+import com.ijioio.object.format.formatter.Formatter;
+import com.ijioio.object.format.formatter.FormatterRegistry;
+
+/**
+ * Immutable configuration of the object formatter. Configurations are compared
+ * by value, so equal configurations built separately can share the formatters
+ * cached by {@link ObjectFormatter#cached(String, Configuration)}. Formatters
+ * and converters registered with the configuration are compared by their own
+ * {@code equals}, usually by identity.
+ */
 public class Configuration {
 
 	private static final String SEPARATOR_SEQUENCE_DEFAULT_VALUE = ", ";
 
+	private static final String RECORD_SEPARATOR_SEQUENCE_DEFAULT_VALUE = System.lineSeparator();
+
+	private static final Configuration DEFAULT = builder().build();
+
 	public static ConfigurationBuilder builder() {
 		return new ConfigurationBuilder();
 	}
 
+	/**
+	 * Returns shared configuration with all the settings set to default values.
+	 * 
+	 * @return default configuration, not null
+	 */
+	public static Configuration getDefault() {
+		return DEFAULT;
+	}
+
 	private final String separatorSequence;
 
+	private final String recordSeparatorSequence;
+
 	private final ParserConfiguration parserConfiguration;
 
 	private final DelegateConfiguration delegateConfiguration;
 
+	private final Map<Class<?>, Formatter<?>> formatters;
+
+	private final Map<Class<?>, Converter<?, ?>> converters;
+
+	private final FormatterRegistry formatterRegistry;
+
+	private final ConverterRegistry converterRegistry;
+
+	private final int hashCode;
+
 	private Configuration(ConfigurationBuilder builder) {
 
 		this.separatorSequence = Optional.ofNullable(builder.separatorSequence)
 				.orElse(SEPARATOR_SEQUENCE_DEFAULT_VALUE);
+		this.recordSeparatorSequence = Optional.ofNullable(builder.recordSeparatorSequence)
+				.orElse(RECORD_SEPARATOR_SEQUENCE_DEFAULT_VALUE);
 		this.parserConfiguration = Optional.ofNullable(builder.parserConfiguration)
 				.orElse(ParserConfiguration.builder().build());
 		this.delegateConfiguration = Optional.ofNullable(builder.delegateConfiguration)
 				.orElse(DelegateConfiguration.builder().build());
+		this.formatters = Collections.unmodifiableMap(new HashMap<>(builder.formatters));
+		this.converters = Collections.unmodifiableMap(new HashMap<>(builder.converters));
+		this.formatterRegistry = !formatters.isEmpty() ? FormatterRegistry.get().scoped(formatters)
+				: FormatterRegistry.get();
+		this.converterRegistry = !converters.isEmpty() ? ConverterRegistry.get().scoped(converters)
+				: ConverterRegistry.get();
+
+		// Configuration is used as a cache key, so hash code is computed once
+		this.hashCode = Objects.hash(separatorSequence, recordSeparatorSequence, parserConfiguration,
+				delegateConfiguration, formatters, converters);
 	}
 
 	public String getSeparatorSequence() {
 		return separatorSequence;
 	}
 
+	/**
+	 * Returns sequence written between the records when formatting a batch of
+	 * objects.
+	 * 
+	 * @return record separator sequence, not null
+	 */
+	public String getRecordSeparatorSequence() {
+		return recordSeparatorSequence;
+	}
+
 	public ParserConfiguration getParserConfiguration() {
 		return parserConfiguration;
 	}
@@ -44,14 +103,65 @@ public class Configuration {
 		return delegateConfiguration;
 	}
 
+	/**
+	 * Returns formatter registry to resolve formatters with. Unless formatters are
+	 * registered with the configuration, this is the global registry.
+	 * 
+	 * @return formatter registry, not null
+	 */
+	public FormatterRegistry getFormatterRegistry() {
+		return formatterRegistry;
+	}
+
+	/**
+	 * Returns converter registry to resolve converters with. Unless converters are
+	 * registered with the configuration, this is the global registry.
+	 * 
+	 * @return converter registry, not null
+	 */
+	public ConverterRegistry getConverterRegistry() {
+		return converterRegistry;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Configuration)) {
+			return false;
+		}
+
+		Configuration other = (Configuration) obj;
+
+		return hashCode == other.hashCode && separatorSequence.equals(other.separatorSequence)
+				&& recordSeparatorSequence.equals(other.recordSeparatorSequence)
+				&& parserConfiguration.equals(other.parserConfiguration)
+				&& delegateConfiguration.equals(other.delegateConfiguration) && formatters.equals(other.formatters)
+				&& converters.equals(other.converters);
+	}
+
 	public static class ConfigurationBuilder {
 
 		private String separatorSequence;
 
+		private String recordSeparatorSequence;
+
 		private ParserConfiguration parserConfiguration;
 
 		private DelegateConfiguration delegateConfiguration;
 
+		private final Map<Class<?>, Formatter<?>> formatters = new HashMap<>();
+
+		private final Map<Class<?>, Converter<?, ?>> converters = new HashMap<>();
+
 		private ConfigurationBuilder() {
 			// Empty
 		}
@@ -62,6 +172,12 @@ public class Configuration {
 			return this;
 		}
 
+		public ConfigurationBuilder recordSeparatorSequence(String recordSeparatorSequence) {
+
+			this.recordSeparatorSequence = recordSeparatorSequence;
+			return this;
+		}
+
 		public ConfigurationBuilder parserConfiguration(ParserConfiguration parserConfiguration) {
 
 			this.parserConfiguration = parserConfiguration;
@@ -82,6 +198,18 @@ public class Configuration {
 			return DelegateConfiguration.builder(this);
 		}
 
+		public ConfigurationBuilder formatter(Class<?> type, Formatter<?> formatter) {
+
+			formatters.put(type, formatter);
+			return this;
+		}
+
+		public <V> ConfigurationBuilder converter(Class<V> type, Converter<V, ?> converter) {
+
+			converters.put(type, converter);
+			return this;
+		}
+
 		public Configuration build() {
 			return new Configuration(this);
 		}
@@ -107,6 +235,8 @@ public class Configuration {
 
 		private static final String VARIABLE_PROPERTY_NAME_SUFFIX_SEQUENCE_DEFAULT_VALUE = "suffix";
 
+		private static final String VARIABLE_PROPERTY_NAME_TRUNCATE_SEQUENCE_DEFAULT_VALUE = "truncate";
+
 		private static final String VARIABLE_PROPERTY_NAME_SEPARATOR_SEQUENCE_DEFAULT_VALUE = "separator";
 
 		private static final String VARIABLE_PROPERTY_NAME_PATTERN_SEQUENCE_DEFAULT_VALUE = "pattern";
@@ -141,6 +271,8 @@ public class Configuration {
 
 		private final String variablePropertyNameSuffixSequence;
 
+		private final String variablePropertyNameTruncateSequence;
+
 		private final String variablePropertyNameSeparatorSequence;
 
 		private final String variablePropertyNamePatternSequence;
@@ -149,6 +281,8 @@ public class Configuration {
 
 		private final String variablePropertyValueSeparatorSequence;
 
+		private final int hashCode;
+
 		private ParserConfiguration(ParserConfigurationBuilder builder) {
 
 			this.escapeSequence = Optional.ofNullable(builder.escapeSequence).orElse(ESCAPE_SEQUENCE_DEFAULT_VALUE);
@@ -168,6 +302,9 @@ public class Configuration {
 					.orElse(VARIABLE_PROPERTY_NAME_PREFIX_SEQUENCE_DEFAULT_VALUE);
 			this.variablePropertyNameSuffixSequence = Optional.ofNullable(builder.variablePropertyNameSuffixSequence)
 					.orElse(VARIABLE_PROPERTY_NAME_SUFFIX_SEQUENCE_DEFAULT_VALUE);
+			this.variablePropertyNameTruncateSequence = Optional
+					.ofNullable(builder.variablePropertyNameTruncateSequence)
+					.orElse(VARIABLE_PROPERTY_NAME_TRUNCATE_SEQUENCE_DEFAULT_VALUE);
 			this.variablePropertyNameSeparatorSequence = Optional
 					.ofNullable(builder.variablePropertyNameSeparatorSequence)
 					.orElse(VARIABLE_PROPERTY_NAME_SEPARATOR_SEQUENCE_DEFAULT_VALUE);
@@ -179,6 +316,13 @@ public class Configuration {
 					.ofNullable(builder.variablePropertyValueSeparatorSequence)
 					.orElse(VARIABLE_PROPERTY_VALUE_SEPARATOR_SEQUENCE_DEFAULT_VALUE);
 
+			this.hashCode = Objects.hash(escapeSequence, variableStartSequence, variableEndSequence,
+					variableSeparatorSequence, variablePropertySeparatorSequence, variablePropertyNameIdSequence,
+					variablePropertyNamePaddingSequence, variablePropertyNamePrefixSequence,
+					variablePropertyNameSuffixSequence, variablePropertyNameTruncateSequence,
+					variablePropertyNameSeparatorSequence, variablePropertyNamePatternSequence,
+					variablePropertyNameDefaultSequence, variablePropertyValueSeparatorSequence);
+
 			// TODO: validate not empty, not contains substring, etc.
 		}
 
@@ -218,6 +362,10 @@ public class Configuration {
 			return variablePropertyNameSuffixSequence;
 		}
 
+		public String getVariablePropertyNameTruncateSequence() {
+			return variablePropertyNameTruncateSequence;
+		}
+
 		public String getVariablePropertyNameSeparatorSequence() {
 			return variablePropertyNameSeparatorSequence;
 		}
@@ -234,6 +382,40 @@ public class Configuration {
 			return variablePropertyValueSeparatorSequence;
 		}
 
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ParserConfiguration)) {
+				return false;
+			}
+
+			ParserConfiguration other = (ParserConfiguration) obj;
+
+			return hashCode == other.hashCode && escapeSequence.equals(other.escapeSequence)
+					&& variableStartSequence.equals(other.variableStartSequence)
+					&& variableEndSequence.equals(other.variableEndSequence)
+					&& variableSeparatorSequence.equals(other.variableSeparatorSequence)
+					&& variablePropertySeparatorSequence.equals(other.variablePropertySeparatorSequence)
+					&& variablePropertyNameIdSequence.equals(other.variablePropertyNameIdSequence)
+					&& variablePropertyNamePaddingSequence.equals(other.variablePropertyNamePaddingSequence)
+					&& variablePropertyNamePrefixSequence.equals(other.variablePropertyNamePrefixSequence)
+					&& variablePropertyNameSuffixSequence.equals(other.variablePropertyNameSuffixSequence)
+					&& variablePropertyNameTruncateSequence.equals(other.variablePropertyNameTruncateSequence)
+					&& variablePropertyNameSeparatorSequence.equals(other.variablePropertyNameSeparatorSequence)
+					&& variablePropertyNamePatternSequence.equals(other.variablePropertyNamePatternSequence)
+					&& variablePropertyNameDefaultSequence.equals(other.variablePropertyNameDefaultSequence)
+					&& variablePropertyValueSeparatorSequence.equals(other.variablePropertyValueSeparatorSequence);
+		}
+
 		public static class ParserConfigurationBuilder {
 
 			private final ConfigurationBuilder parent;
@@ -256,6 +438,8 @@ public class Configuration {
 
 			private String variablePropertyNameSuffixSequence;
 
+			private String variablePropertyNameTruncateSequence;
+
 			private String variablePropertyNameSeparatorSequence;
 
 			private String variablePropertyNamePatternSequence;
@@ -322,6 +506,12 @@ public class Configuration {
 				return this;
 			}
 
+			public ParserConfigurationBuilder variablePropertyNameTruncateSequence(String value) {
+
+				variablePropertyNameTruncateSequence = value;
+				return this;
+			}
+
 			public ParserConfigurationBuilder variablePropertyNameSeparatorSequence(String value) {
 
 				variablePropertyNameSeparatorSequence = value;
@@ -368,18 +558,46 @@ public class Configuration {
 			return new DelegateConfigurationBuilder(parent);
 		}
 
-		private final Map<Class<?>, Class<?>> delegates = new HashMap<>();
+		private final Map<Class<?>, Class<?>> delegates;
 
 		private DelegateConfiguration(DelegateConfigurationBuilder builder) {
 
-			this.delegates.clear();
-			this.delegates.putAll(builder.delegates);
+			this.delegates = Collections.unmodifiableMap(new HashMap<>(builder.delegates));
 
 			// TODO: validate not null keys/values
 		}
 
 		public Map<Class<?>, Class<?>> getDelegates() {
-			return Collections.unmodifiableMap(delegates);
+			return delegates;
+		}
+
+		/**
+		 * Returns delegate type registered for indicated {@code type}.
+		 * 
+		 * @param type to get delegate type for, not null
+		 * @return delegate type or null if none is registered
+		 */
+		public Class<?> getDelegate(Class<?> type) {
+			return delegates.isEmpty() ? null : delegates.get(type);
+		}
+
+		@Override
+		public int hashCode() {
+			return delegates.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof DelegateConfiguration)) {
+				return false;
+			}
+
+			return delegates.equals(((DelegateConfiguration) obj).delegates);
 		}
 
 		public static class DelegateConfigurationBuilder {
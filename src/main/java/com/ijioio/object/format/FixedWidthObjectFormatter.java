@@ -0,0 +1,353 @@
+package com.ijioio.object.format;
+
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ijioio.object.format.ObjectFormatter.CompoundEntry;
+import com.ijioio.object.format.ObjectFormatter.Entry;
+import com.ijioio.object.format.ObjectFormatter.Padding;
+import com.ijioio.object.format.ObjectFormatter.SimpleEntry;
+import com.ijioio.object.format.ObjectFormatter.VariableEntry;
+import com.ijioio.object.format.exception.FormatException;
+import com.ijioio.object.format.object.ObjectHolder;
+
+/**
+ * Object formatter producing fixed width records. Every variable of the pattern
+ * should declare a constant padding, which defines the width of the field and
+ * its alignment, and optionally truncation of the values exceeding the width:
+ *
+ * <pre>
+ * ${id=reference|padding=-12|truncate=true}${id=amount|padding=0:10}
+ * </pre>
+ *
+ * <p>
+ * Layout is validated when the pattern is compiled, so the length of the record
+ * is known upfront. Widths and lengths are counted in UTF-16 chars, not in code
+ * points or bytes, so a supplementary character takes two positions. Each
+ * record is written into a preallocated {@code char[]}: literals are copied as
+ * they are and values of the variables are formatted into a builder reused
+ * within the calling thread, so no strings are allocated per field. Value
+ * exceeding the width of the variable that is not truncated fails the
+ * formatting.
+ */
+public class FixedWidthObjectFormatter {
+
+	private static final Logger logger = LoggerFactory.getLogger(FixedWidthObjectFormatter.class);
+
+	private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+	private final ObjectFormatter formatter;
+
+	private final Configuration configuration;
+
+	private final Field[] fields;
+
+	private final int recordLength;
+
+	private final ThreadLocal<CharBuffer> record;
+
+	FixedWidthObjectFormatter(ObjectFormatter formatter) {
+
+		Objects.requireNonNull(formatter, "formatter must not be null");
+
+		this.formatter = formatter;
+		this.configuration = formatter.getConfiguration();
+		this.fields = compile(formatter.getRoot());
+
+		int recordLength = 0;
+
+		for (Field field : fields) {
+			recordLength += field.width;
+		}
+
+		this.recordLength = recordLength;
+		this.record = ThreadLocal.withInitial(() -> CharBuffer.allocate(this.recordLength));
+	}
+
+	private Field[] compile(Entry root) {
+
+		List<Entry> entries = new ArrayList<>();
+
+		if (root instanceof CompoundEntry) {
+			entries.addAll(((CompoundEntry) root).getEntries());
+		} else {
+			entries.add(root);
+		}
+
+		List<Field> fields = new ArrayList<>();
+
+		int offset = 0;
+
+		for (Entry entry : entries) {
+
+			Field field = null;
+
+			if (entry instanceof SimpleEntry) {
+
+				field = new Field(offset, ((SimpleEntry) entry).value.length(), ((SimpleEntry) entry).value, null);
+
+			} else if (entry instanceof VariableEntry) {
+
+				VariableEntry variableEntry = (VariableEntry) entry;
+
+				Padding padding = variableEntry.getConstantPadding();
+
+				if (padding == null || padding.getWidth() == 0) {
+					throw new PatternSyntaxException(String.format("fixed width variable requires constant %s property",
+							configuration.getParserConfiguration().getVariablePropertyNamePaddingSequence()),
+							formatter.getPattern(), variableEntry.beginIndex);
+				}
+
+				field = new Field(offset, Math.abs(padding.getWidth()), null, variableEntry);
+
+			} else {
+
+				throw new PatternSyntaxException("unsupported entry of fixed width pattern", formatter.getPattern(),
+						-1);
+			}
+
+			fields.add(field);
+
+			offset += field.width;
+		}
+
+		return fields.toArray(new Field[fields.size()]);
+	}
+
+	public String getPattern() {
+		return formatter.getPattern();
+	}
+
+	public Configuration getConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * Returns length of the record produced by this formatter in UTF-16 chars.
+	 *
+	 * @return the length of the record
+	 */
+	public int getRecordLength() {
+		return recordLength;
+	}
+
+	public String format(Object object) {
+		return format(object, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Formats an object using this formatter.
+	 *
+	 * @param object to format, not null
+	 * @param locale to use, not null
+	 * @return the formatted record, not null
+	 */
+	public String format(Object object, Locale locale) {
+
+		char[] record = new char[recordLength];
+
+		formatTo(object, locale, record, 0);
+
+		return new String(record);
+	}
+
+	/**
+	 * Formats an object using this formatter and writes the record to indicated
+	 * {@code record} array starting at indicated {@code offset}. Exactly
+	 * {@link #getRecordLength()} characters are written.
+	 *
+	 * @param object to format, not null
+	 * @param locale to use, not null
+	 * @param record to write result to, not null
+	 * @param offset of the record within the array
+	 */
+	public void formatTo(Object object, Locale locale, char[] record, int offset) {
+		formatTo(ObjectHolder.of(object, configuration), locale, record, offset);
+	}
+
+	public void formatTo(ObjectHolder<?> objectHolder, Locale locale, char[] record, int offset) {
+
+		Objects.requireNonNull(objectHolder, "object must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+		Objects.requireNonNull(record, "record must not be null");
+
+		if (offset < 0 || record.length - offset < recordLength) {
+			throw new IndexOutOfBoundsException(
+					String.format("record of length %s does not fit array of length %s at offset %s", recordLength,
+							record.length, offset));
+		}
+
+		StringBuilder value = BUILDER.get();
+
+		try {
+
+			boolean appended = false;
+
+			for (int i = 0; i < fields.length; i++) {
+
+				Field field = fields[i];
+
+				if (field.literal != null) {
+
+					field.literal.getChars(0, field.width, record, offset + field.offset);
+
+					appended |= field.width > 0;
+
+					continue;
+				}
+
+				value.setLength(0);
+
+				appended |= field.entry.formatTo(objectHolder, locale, !appended, value);
+
+				// Constant padding makes value at least as long as the width, so only the
+				// value exceeding the width and not truncated gets here
+				if (value.length() != field.width) {
+
+					if (logger.isErrorEnabled()) {
+						logger.error(String.format("value \"%s\" does not match width %s of variable %s", value,
+								field.width, field.getVariable()));
+					}
+
+					throw new FormatException(String.format("value \"%s\" does not match width %s of variable %s",
+							value, field.width, field.getVariable()));
+				}
+
+				value.getChars(0, field.width, record, offset + field.offset);
+			}
+
+		} catch (FormatException e) {
+
+			throw e;
+
+		} catch (Exception e) {
+
+			if (logger.isErrorEnabled()) {
+				logger.error(e.getMessage(), e);
+			}
+
+			throw new FormatException(e.getMessage(), e);
+		}
+	}
+
+	public void formatTo(Object object, Appendable appendable) {
+		formatTo(object, Locale.getDefault(Locale.Category.FORMAT), appendable);
+	}
+
+	/**
+	 * Formats an object using this formatter and appends the record to indicated
+	 * {@code appendable}. Record is written into an array reused within the
+	 * calling thread.
+	 *
+	 * @param object     to format, not null
+	 * @param locale     to use, not null
+	 * @param appendable to append result to, not null
+	 */
+	public void formatTo(Object object, Locale locale, Appendable appendable) {
+
+		Objects.requireNonNull(appendable, "appendable must not be null");
+
+		CharBuffer record = this.record.get();
+
+		formatTo(object, locale, record.array(), 0);
+
+		try {
+
+			if (appendable instanceof Writer) {
+				((Writer) appendable).write(record.array(), 0, recordLength);
+			} else {
+				appendable.append(record, 0, recordLength);
+			}
+
+		} catch (Exception e) {
+
+			if (logger.isErrorEnabled()) {
+				logger.error(e.getMessage(), e);
+			}
+
+			throw new FormatException(e.getMessage(), e);
+		}
+	}
+
+	public void formatAll(Iterable<?> objects, Appendable appendable) {
+		formatAll(objects, Locale.getDefault(Locale.Category.FORMAT), appendable);
+	}
+
+	/**
+	 * Formats a batch of objects using this formatter and appends the records to
+	 * indicated {@code appendable}. Records are separated with the
+	 * {@link Configuration#getRecordSeparatorSequence() record separator}.
+	 *
+	 * @param objects    to format, not null
+	 * @param locale     to use, not null
+	 * @param appendable to append results to, not null
+	 */
+	public void formatAll(Iterable<?> objects, Locale locale, Appendable appendable) {
+
+		Objects.requireNonNull(objects, "objects must not be null");
+		Objects.requireNonNull(appendable, "appendable must not be null");
+
+		String recordSeparator = configuration.getRecordSeparatorSequence();
+
+		try {
+
+			boolean first = true;
+
+			for (Object object : objects) {
+
+				if (!first) {
+					appendable.append(recordSeparator);
+				}
+
+				formatTo(object, locale, appendable);
+
+				first = false;
+			}
+
+		} catch (FormatException e) {
+
+			throw e;
+
+		} catch (Exception e) {
+
+			if (logger.isErrorEnabled()) {
+				logger.error(e.getMessage(), e);
+			}
+
+			throw new FormatException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Field of the record, either a literal or a variable.
+	 */
+	private static final class Field {
+
+		private final int offset;
+
+		private final int width;
+
+		private final String literal;
+
+		private final VariableEntry entry;
+
+		private Field(int offset, int width, String literal, VariableEntry entry) {
+
+			this.offset = offset;
+			this.width = width;
+			this.literal = literal;
+			this.entry = entry;
+		}
+
+		private String getVariable() {
+			return entry.pattern.substring(entry.beginIndex, entry.endIndex);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package com.ijioio.object.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ijioio.object.format.exception.FormatException;
+import com.ijioio.object.format.sink.MappedFileSink;
+
+/**
+ * Report writer formatting records right into the file mapped to memory, see
+ * {@link MappedFileSink}. Records are encoded to UTF-8 as they are formatted
+ * and land in the page cache without intermediate strings, char buffers or
+ * stream copies. Records are separated with the
+ * {@link Configuration#getRecordSeparatorSequence() record separator} of the
+ * formatter.
+ *
+ * <pre>
+ * try (MappedReportWriter writer = MappedReportWriter.open(formatter, path)) {
+ * 	writer.writeAll(bookings);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Writer is not thread safe.
+ */
+public class MappedReportWriter implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(MappedReportWriter.class);
+
+	private final ObjectFormatter formatter;
+
+	private final Configuration configuration;
+
+	private final Locale locale;
+
+	private final MappedFileSink sink;
+
+	private boolean first = true;
+
+	public static MappedReportWriter open(ObjectFormatter formatter, Path path) throws IOException {
+		return open(formatter, path, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Opens writer for indicated file using default region size. Existing file is
+	 * truncated.
+	 *
+	 * @param formatter to format records with, not null
+	 * @param path      of the file, not null
+	 * @param locale    to use, not null
+	 * @return the writer, not null
+	 * @throws IOException if file can not be opened or mapped
+	 */
+	public static MappedReportWriter open(ObjectFormatter formatter, Path path, Locale locale) throws IOException {
+
+		Objects.requireNonNull(formatter, "formatter must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+
+		return new MappedReportWriter(formatter, locale, MappedFileSink.open(path));
+	}
+
+	/**
+	 * Opens writer for indicated file mapping it by the regions of indicated
+	 * size. Existing file is truncated.
+	 *
+	 * @param formatter  to format records with, not null
+	 * @param path       of the file, not null
+	 * @param locale     to use, not null
+	 * @param regionSize size of the mapped regions in bytes, at least 4
+	 * @return the writer, not null
+	 * @throws IOException if file can not be opened or mapped
+	 */
+	public static MappedReportWriter open(ObjectFormatter formatter, Path path, Locale locale, int regionSize)
+			throws IOException {
+
+		Objects.requireNonNull(formatter, "formatter must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+
+		return new MappedReportWriter(formatter, locale, MappedFileSink.open(path, regionSize));
+	}
+
+	private MappedReportWriter(ObjectFormatter formatter, Locale locale, MappedFileSink sink) {
+
+		this.formatter = formatter;
+		this.configuration = formatter.getConfiguration();
+		this.locale = locale;
+		this.sink = sink;
+	}
+
+	public ObjectFormatter getFormatter() {
+		return formatter;
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * Returns number of bytes written so far.
+	 *
+	 * @return the size of the report
+	 */
+	public long getSize() {
+		return sink.getSize();
+	}
+
+	/**
+	 * Formats an object and writes it as the next record of the report.
+	 *
+	 * @param object to format, not null
+	 */
+	public void write(Object object) {
+
+		checkOpen();
+
+		writeSeparator();
+
+		formatter.formatTo(object, locale, sink);
+	}
+
+	/**
+	 * Formats a batch of objects and writes them as the next records of the
+	 * report.
+	 *
+	 * @param objects to format, not null
+	 */
+	public void writeAll(Iterable<?> objects) {
+
+		Objects.requireNonNull(objects, "objects must not be null");
+
+		checkOpen();
+
+		for (Object object : objects) {
+			write(object);
+		}
+	}
+
+	private void checkOpen() {
+
+		if (sink.isClosed()) {
+			throw new IllegalStateException("writer is closed");
+		}
+	}
+
+	private void writeSeparator() {
+
+		if (first) {
+
+			first = false;
+
+			return;
+		}
+
+		try {
+
+			sink.append(configuration.getRecordSeparatorSequence());
+
+		} catch (Exception e) {
+
+			if (logger.isErrorEnabled()) {
+				logger.error(e.getMessage(), e);
+			}
+
+			throw new FormatException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Truncates the file to the size of the report and closes it.
+	 *
+	 * @throws IOException if file can not be truncated or closed
+	 */
+	@Override
+	public void close() throws IOException {
+		sink.close();
+	}
+}
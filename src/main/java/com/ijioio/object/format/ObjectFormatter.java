@@ -1,28 +1,57 @@
 package com.ijioio.object.format;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ijioio.object.format.Configuration.ParserConfiguration;
+import com.ijioio.object.format.cache.PatternCache;
 import com.ijioio.object.format.converter.Converter;
 import com.ijioio.object.format.converter.ConverterRegistry;
 import com.ijioio.object.format.exception.FormatException;
+import com.ijioio.object.format.formatter.BooleanFormatter;
+import com.ijioio.object.format.formatter.CharacterFormatter;
+import com.ijioio.object.format.formatter.DoubleFormatter;
 import com.ijioio.object.format.formatter.Formatter;
 import com.ijioio.object.format.formatter.FormatterRegistry;
+import com.ijioio.object.format.formatter.IntFormatter;
+import com.ijioio.object.format.formatter.LongFormatter;
+import com.ijioio.object.format.formatter.NumberFormatter;
+import com.ijioio.object.format.formatter.StringFormatter;
 import com.ijioio.object.format.metadata.ObjectMetadata;
 import com.ijioio.object.format.metadata.PropertyMetadata;
 import com.ijioio.object.format.object.ObjectHolder;
+import com.ijioio.object.format.sink.Utf8Sink;
 import com.ijioio.object.format.util.DebugUtil;
+import com.ijioio.object.format.util.InstanceUtil;
+import com.ijioio.object.format.util.MetadataUtil;
 import com.ijioio.object.format.util.TextUtil;
 import com.ijioio.object.format.util.TupleUtil.Pair;
 
@@ -30,6 +59,10 @@ public class ObjectFormatter {
 
 	private static final Logger logger = LoggerFactory.getLogger(ObjectFormatter.class);
 
+	private static final int PARALLEL_CHUNK_SIZE = 1024;
+
+	private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
 	private final String pattern;
 
 	private final Configuration configuration;
@@ -45,7 +78,7 @@ public class ObjectFormatter {
 	 * @throws PatternSyntaxException if the pattern is invalid
 	 */
 	public static ObjectFormatter of(final String pattern) {
-		return new ObjectFormatter(pattern, Configuration.builder().build());
+		return new ObjectFormatter(pattern, Configuration.getDefault());
 	}
 
 	/**
@@ -62,6 +95,65 @@ public class ObjectFormatter {
 		return new ObjectFormatter(pattern, configuration);
 	}
 
+	/**
+	 * Returns object formatter using indicated {@code pattern} and default
+	 * configuration. Unlike {@link #of(String)} the formatter is shared: the
+	 * pattern is parsed on the first request and the formatter is kept in the
+	 * {@link PatternCache}.
+	 * 
+	 * @param pattern to use, not null
+	 * @return the formatter based on the pattern, not null
+	 * @throws PatternSyntaxException if the pattern is invalid
+	 */
+	public static ObjectFormatter cached(final String pattern) {
+		return cached(pattern, Configuration.getDefault());
+	}
+
+	/**
+	 * Returns object formatter using indicated {@code pattern} and provided
+	 * {@code configuration}. Unlike {@link #of(String, Configuration)} the
+	 * formatter is shared: the pattern is parsed on the first request and the
+	 * formatter is kept in the {@link PatternCache}. Configurations are compared
+	 * by value, so equal configurations share the formatter.
+	 * 
+	 * @param pattern       to use, not null
+	 * @param configuration to use, not null
+	 * @return the formatter based on the pattern, not null
+	 * @throws PatternSyntaxException if the pattern is invalid
+	 */
+	public static ObjectFormatter cached(final String pattern, Configuration configuration) {
+		return PatternCache.get().getFormatter(pattern, configuration);
+	}
+
+	/**
+	 * Creates fixed width object formatter using indicated {@code pattern} and
+	 * default configuration. See {@link FixedWidthObjectFormatter} for details.
+	 * The object formatter returned is immutable and thread safe.
+	 * 
+	 * @param pattern to use, not null
+	 * @return the formatter based on the pattern, not null
+	 * @throws PatternSyntaxException if the pattern is invalid or doesn't define
+	 *                                a fixed width layout
+	 */
+	public static FixedWidthObjectFormatter fixedWidth(final String pattern) {
+		return fixedWidth(pattern, Configuration.getDefault());
+	}
+
+	/**
+	 * Creates fixed width object formatter using indicated {@code pattern} and
+	 * provided {@code configuration}. See {@link FixedWidthObjectFormatter} for
+	 * details. The object formatter returned is immutable and thread safe.
+	 * 
+	 * @param pattern       to use, not null
+	 * @param configuration to use, not null
+	 * @return the formatter based on the pattern, not null
+	 * @throws PatternSyntaxException if the pattern is invalid or doesn't define
+	 *                                a fixed width layout
+	 */
+	public static FixedWidthObjectFormatter fixedWidth(final String pattern, Configuration configuration) {
+		return new FixedWidthObjectFormatter(new ObjectFormatter(pattern, configuration));
+	}
+
 	/**
 	 * Constructor to create object formatter instances.
 	 * 
@@ -77,11 +169,23 @@ public class ObjectFormatter {
 		this.pattern = pattern;
 		this.configuration = configuration;
 
-		root = new CompoundEntry(pattern, 0, pattern.length(), configuration);
+		root = new PatternParser(pattern, configuration).parse();
 
 		dump();
 	}
 
+	public String getPattern() {
+		return pattern;
+	}
+
+	public Configuration getConfiguration() {
+		return configuration;
+	}
+
+	Entry getRoot() {
+		return root;
+	}
+
 	/**
 	 * Dumps formatter internal state to the log.
 	 */
@@ -106,6 +210,30 @@ public class ObjectFormatter {
 									.ifPresent(item -> entries.add(Pair.of(
 											configuration.getParserConfiguration().getVariablePropertyNameIdSequence(),
 											item.getSecond())));
+							Optional.ofNullable(((VariableEntry) entry.getSecond()).paddingData)
+									.ifPresent(
+											item -> entries.add(Pair.of(
+													configuration.getParserConfiguration()
+															.getVariablePropertyNamePaddingSequence(),
+													item.getSecond())));
+							Optional.ofNullable(((VariableEntry) entry.getSecond()).prefixData)
+									.ifPresent(
+											item -> entries.add(Pair.of(
+													configuration.getParserConfiguration()
+															.getVariablePropertyNamePrefixSequence(),
+													item.getSecond())));
+							Optional.ofNullable(((VariableEntry) entry.getSecond()).suffixData)
+									.ifPresent(
+											item -> entries.add(Pair.of(
+													configuration.getParserConfiguration()
+															.getVariablePropertyNameSuffixSequence(),
+													item.getSecond())));
+							Optional.ofNullable(((VariableEntry) entry.getSecond()).truncateData)
+									.ifPresent(
+											item -> entries.add(Pair.of(
+													configuration.getParserConfiguration()
+															.getVariablePropertyNameTruncateSequence(),
+													item.getSecond())));
 							Optional.ofNullable(((VariableEntry) entry.getSecond()).separatorData)
 									.ifPresent(
 											item -> entries.add(Pair.of(
@@ -188,12 +316,111 @@ public class ObjectFormatter {
 
 	public String format(ObjectHolder<?> objectHolder, final Locale locale) {
 
+		StringBuilder result = new StringBuilder();
+
+		formatTo(objectHolder, locale, result);
+
+		return result.toString();
+	}
+
+	public void formatTo(Object object, Appendable appendable) {
+		formatTo(object, Locale.getDefault(Locale.Category.FORMAT), appendable);
+	}
+
+	/**
+	 * Formats an object using this formatter and appends the result to indicated
+	 * {@code appendable}, e.g. {@link java.io.Writer}. Result is written entry by
+	 * entry without building intermediate strings for the whole pattern.
+	 * 
+	 * @param object     to format, not null
+	 * @param locale     to use, not null
+	 * @param appendable to append result to, not null
+	 */
+	public void formatTo(Object object, Locale locale, Appendable appendable) {
+		formatTo(ObjectHolder.of(object, configuration), locale, appendable);
+	}
+
+	/**
+	 * Formats an object using this formatter and writes the result to indicated
+	 * {@code outputStream} encoded with indicated {@code charset}. Output stream
+	 * is flushed but not closed.
+	 * 
+	 * @param object       to format, not null
+	 * @param locale       to use, not null
+	 * @param outputStream to write result to, not null
+	 * @param charset      to encode result with, not null
+	 */
+	public void formatTo(Object object, Locale locale, OutputStream outputStream, Charset charset) {
+
+		Objects.requireNonNull(outputStream, "outputStream must not be null");
+		Objects.requireNonNull(charset, "charset must not be null");
+
+		Writer writer = new OutputStreamWriter(outputStream, charset);
+
+		formatTo(object, locale, writer);
+
+		try {
+
+			writer.flush();
+
+		} catch (IOException e) {
+
+			if (logger.isErrorEnabled()) {
+				logger.error(e.getMessage(), e);
+			}
+
+			throw new FormatException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Formats an object using this formatter and writes the result encoded to
+	 * UTF-8 to indicated {@code buffer}, starting at its current position.
+	 * Literals of the pattern are encoded once at parse time and copied as bytes,
+	 * values are encoded as they are formatted, see {@link Utf8Sink}.
+	 * 
+	 * @param object to format, not null
+	 * @param locale to use, not null
+	 * @param buffer to write result to, not null
+	 * @throws FormatException if formatting failed or result doesn't fit the
+	 *                         buffer, position of the buffer is left unchanged
+	 */
+	public void formatTo(Object object, Locale locale, ByteBuffer buffer) {
+
+		Objects.requireNonNull(buffer, "buffer must not be null");
+
+		int position = buffer.position();
+
+		try {
+
+			formatTo(ObjectHolder.of(object, configuration), locale, new Utf8Sink(buffer));
+
+		} catch (FormatException e) {
+
+			// Discards partially written result, so the call can be retried
+			buffer.position(position);
+
+			throw e;
+		}
+	}
+
+	public void formatTo(ObjectHolder<?> objectHolder, Appendable appendable) {
+		formatTo(objectHolder, Locale.getDefault(Locale.Category.FORMAT), appendable);
+	}
+
+	public void formatTo(ObjectHolder<?> objectHolder, final Locale locale, Appendable appendable) {
+
 		Objects.requireNonNull(objectHolder, "object must not be null");
 		Objects.requireNonNull(locale, "locale must not be null");
+		Objects.requireNonNull(appendable, "appendable must not be null");
 
 		try {
 
-			return root.format(objectHolder, locale, true);
+			root.formatTo(objectHolder, locale, true, appendable);
+
+			if (appendable instanceof Utf8Sink) {
+				((Utf8Sink) appendable).finish();
+			}
 
 		} catch (Exception e) {
 
@@ -205,15 +432,229 @@ public class ObjectFormatter {
 		}
 	}
 
+	public void formatAll(Iterable<?> objects, Appendable appendable) {
+		formatAll(objects, Locale.getDefault(Locale.Category.FORMAT), appendable);
+	}
+
 	/**
-	 * Type of entry.
+	 * Formats a batch of objects using this formatter and appends the results to
+	 * indicated {@code appendable}. Results are separated with the
+	 * {@link Configuration#getRecordSeparatorSequence() record separator}. Locale,
+	 * configuration and the parsed pattern are resolved once for the whole batch.
 	 * 
-	 * @author Artem Abeleshev
-	 *
+	 * @param objects    to format, not null
+	 * @param locale     to use, not null
+	 * @param appendable to append results to, not null
+	 */
+	public void formatAll(Iterable<?> objects, final Locale locale, Appendable appendable) {
+
+		Objects.requireNonNull(objects, "objects must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+		Objects.requireNonNull(appendable, "appendable must not be null");
+
+		String recordSeparator = configuration.getRecordSeparatorSequence();
+
+		try {
+
+			boolean first = true;
+
+			for (Object object : objects) {
+
+				if (!first) {
+					appendable.append(recordSeparator);
+				}
+
+				root.formatTo(ObjectHolder.of(object, configuration), locale, true, appendable);
+
+				first = false;
+			}
+
+			if (appendable instanceof Utf8Sink) {
+				((Utf8Sink) appendable).finish();
+			}
+
+		} catch (Exception e) {
+
+			if (logger.isErrorEnabled()) {
+				logger.error(e.getMessage(), e);
+			}
+
+			throw new FormatException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Formats a batch of objects the same way as
+	 * {@link #formatAll(Iterable, Locale, Appendable)}, but splits it into chunks
+	 * formatted concurrently by the {@link ForkJoinPool#commonPool() common pool}.
+	 * At most {@code parallelism} chunks are in flight, every chunk is formatted
+	 * into its own buffer and the buffers are appended in the original order as
+	 * soon as they are ready. The number of chunks in flight is bounded, so the
+	 * memory used does not depend on the size of the batch.
+	 * 
+	 * <p>
+	 * Note that {@code parallelism} does not reserve any threads: the common pool
+	 * is shared with the rest of the application, so chunks are formatted by at
+	 * most as many threads as the common pool has, competing with its other
+	 * tasks. Use {@link #formatAllParallel(List, Locale, Executor, Appendable)}
+	 * with a dedicated executor to control the threads.
+	 * 
+	 * <p>
+	 * Once formatting of a chunk fails, chunks not started yet are cancelled and
+	 * the running ones stop at the next record.
+	 * 
+	 * @param objects     to format, not null
+	 * @param locale      to use, not null
+	 * @param parallelism maximum number of chunks in flight, positive
+	 * @param appendable  to append results to, not null
+	 */
+	public void formatAllParallel(List<?> objects, final Locale locale, int parallelism, Appendable appendable) {
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(String.format("parallelism %s must be positive", parallelism));
+		}
+
+		formatAllParallel(objects, locale, ForkJoinPool.commonPool(), parallelism, appendable);
+	}
+
+	/**
+	 * Formats a batch of objects the same way as
+	 * {@link #formatAllParallel(List, Locale, int, Appendable)}, but formats the
+	 * chunks using indicated {@code executor}. At most twice the number of
+	 * available processors chunks are in flight.
+	 * 
+	 * @param objects    to format, not null
+	 * @param locale     to use, not null
+	 * @param executor   to format chunks with, not null
+	 * @param appendable to append results to, not null
+	 */
+	public void formatAllParallel(List<?> objects, final Locale locale, Executor executor, Appendable appendable) {
+		formatAllParallel(objects, locale, executor, Runtime.getRuntime().availableProcessors() * 2, appendable);
+	}
+
+	private void formatAllParallel(List<?> objects, final Locale locale, Executor executor, int chunksInFlight,
+			Appendable appendable) {
+
+		Objects.requireNonNull(objects, "objects must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+		Objects.requireNonNull(executor, "executor must not be null");
+		Objects.requireNonNull(appendable, "appendable must not be null");
+
+		if (chunksInFlight == 1 || objects.size() <= PARALLEL_CHUNK_SIZE) {
+
+			formatAll(objects, locale, appendable);
+
+			return;
+		}
+
+		String recordSeparator = configuration.getRecordSeparatorSequence();
+
+		// Copied, so chunks are indexed in constant time whatever the list is
+		Object[] array = objects.toArray();
+
+		// First failure, signals the rest of the chunks to stop
+		AtomicReference<Exception> failure = new AtomicReference<>();
+
+		Deque<Future<StringBuilder>> chunks = new ArrayDeque<>();
+
+		try {
+
+			int size = array.length;
+
+			for (int beginIndex = 0; beginIndex < size && failure.get() == null; beginIndex += PARALLEL_CHUNK_SIZE) {
+
+				if (chunks.size() == chunksInFlight) {
+					appendable.append(chunks.poll().get());
+				}
+
+				int chunkBeginIndex = beginIndex;
+				int chunkEndIndex = Math.min(size, beginIndex + PARALLEL_CHUNK_SIZE);
+
+				chunks.add(CompletableFuture.supplyAsync(() -> {
+
+					StringBuilder chunk = new StringBuilder();
+
+					try {
+
+						for (int i = chunkBeginIndex; i < chunkEndIndex; i++) {
+
+							if (failure.get() != null) {
+								throw new CancellationException();
+							}
+
+							if (i > 0) {
+								chunk.append(recordSeparator);
+							}
+
+							root.formatTo(ObjectHolder.of(array[i], configuration), locale, true, chunk);
+						}
+
+					} catch (Exception e) {
+
+						failure.compareAndSet(null, e);
+
+						throw new CompletionException(e);
+					}
+
+					return chunk;
+
+				}, executor));
+			}
+
+			while (!chunks.isEmpty()) {
+				appendable.append(chunks.poll().get());
+			}
+
+		} catch (Exception e) {
+
+			failure.compareAndSet(null, e);
+
+			for (Future<StringBuilder> chunk : chunks) {
+				chunk.cancel(false);
+			}
+
+			Exception firstFailure = failure.get();
+
+			Throwable cause = firstFailure instanceof ExecutionException && firstFailure.getCause() != null
+					? firstFailure.getCause()
+					: firstFailure;
+
+			if (logger.isErrorEnabled()) {
+				logger.error(cause.getMessage(), cause);
+			}
+
+			throw new FormatException(cause.getMessage(), cause);
+		}
+	}
+
+	public Stream<String> formatStream(Stream<?> objects) {
+		return formatStream(objects, Locale.getDefault(Locale.Category.FORMAT));
+	}
+
+	/**
+	 * Returns a lazy stream of the objects formatted using this formatter. Each
+	 * result is formatted into a builder reused within the calling thread, so only
+	 * the resulting strings are allocated per object.
+	 * 
+	 * @param objects to format, not null
+	 * @param locale  to use, not null
+	 * @return the stream of formatted strings, not null
 	 */
-	enum Type {
+	public Stream<String> formatStream(Stream<?> objects, final Locale locale) {
 
-		SIMPLE, VARIABLE;
+		Objects.requireNonNull(objects, "objects must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+
+		return objects.map(object -> {
+
+			StringBuilder result = BUILDER.get();
+
+			result.setLength(0);
+
+			formatTo(ObjectHolder.of(object, configuration), locale, result);
+
+			return result.toString();
+		});
 	}
 
 	/**
@@ -226,8 +667,30 @@ public class ObjectFormatter {
 	 */
 	interface Entry {
 
+		/**
+		 * Formats an object holder and appends result to indicated
+		 * {@code appendable}.
+		 * 
+		 * @param objectHolder to format
+		 * @param locale       to use
+		 * @param empty        whether nothing has been appended by the enclosing
+		 *                     entry yet
+		 * @param appendable   to append result to
+		 * @return {@code true} if anything was appended, {@code false} otherwise
+		 * @throws Exception if formatting failed
+		 */
+		public default boolean formatTo(ObjectHolder<?> objectHolder, Locale locale, boolean empty,
+				Appendable appendable) throws Exception {
+			return false;
+		}
+
 		public default String format(ObjectHolder<?> objectHolder, Locale locale, boolean empty) throws Exception {
-			return null;
+
+			StringBuilder result = new StringBuilder();
+
+			formatTo(objectHolder, locale, empty, result);
+
+			return result.toString();
 		}
 	}
 
@@ -259,6 +722,8 @@ public class ObjectFormatter {
 
 		protected final String variablePropertyNameSuffixSequence;
 
+		protected final String variablePropertyNameTruncateSequence;
+
 		protected final String variablePropertyNameSeparatorSequence;
 
 		protected final String variablePropertyNamePatternSequence;
@@ -285,6 +750,7 @@ public class ObjectFormatter {
 			this.variablePropertyNamePaddingSequence = parserConfiguration.getVariablePropertyNamePaddingSequence();
 			this.variablePropertyNamePrefixSequence = parserConfiguration.getVariablePropertyNamePrefixSequence();
 			this.variablePropertyNameSuffixSequence = parserConfiguration.getVariablePropertyNameSuffixSequence();
+			this.variablePropertyNameTruncateSequence = parserConfiguration.getVariablePropertyNameTruncateSequence();
 			this.variablePropertyNameSeparatorSequence = parserConfiguration.getVariablePropertyNameSeparatorSequence();
 			this.variablePropertyNamePatternSequence = parserConfiguration.getVariablePropertyNamePatternSequence();
 			this.variablePropertyNameDefaultSequence = parserConfiguration.getVariablePropertyNameDefaultSequence();
@@ -293,55 +759,7 @@ public class ObjectFormatter {
 		}
 
 		public String unescape(final String pattern) {
-
-			StringBuilder result = new StringBuilder();
-
-			boolean escape = false;
-
-			for (int i = 0; i < pattern.length(); i++) {
-
-				// If current character is escape character
-				if (pattern.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
-
-					if (escape) {
-
-						// Drop escape sequence flag
-						escape = false;
-
-						// Shift index
-						i += escapeSequence.length() - 1;
-
-					} else {
-
-						// If next character is exists
-						// and it is an escape character
-						if (pattern.regionMatches(i + escapeSequence.length(), escapeSequence, 0,
-								escapeSequence.length())) {
-
-							// Append escape character
-							result.append(escapeSequence);
-
-							// Shift index
-							i += escapeSequence.length() * 2 - 1;
-
-						} else {
-
-							// Rise escape sequence flag
-							escape = true;
-
-							// Shift index
-							i += escapeSequence.length() - 1;
-						}
-					}
-
-				} else {
-
-					// Append character
-					result.append(pattern.charAt(i));
-				}
-			}
-
-			return result.toString();
+			return TextUtil.unescape(pattern, escapeSequence);
 		}
 	}
 
@@ -384,176 +802,91 @@ public class ObjectFormatter {
 	 */
 	static final class CompoundEntry extends BaseEntry {
 
-		private final List<Entry> entries = new ArrayList<>();
+		private final List<Entry> entries;
 
-		CompoundEntry(final String pattern, final int beginIndex, final int endIndex, Configuration configuration) {
+		/**
+		 * Value of the entry if it doesn't depend on the object being formatted, null
+		 * otherwise.
+		 */
+		private final String constant;
+
+		/**
+		 * Constant value encoded to UTF-8 once, see {@link Utf8Sink}.
+		 */
+		private final byte[] utf8Constant;
+
+		CompoundEntry(final String pattern, final int beginIndex, final int endIndex, Configuration configuration,
+				List<Entry> entries) {
 
 			super(pattern, beginIndex, endIndex, configuration);
 
-			// Parse pattern
-			parsePattern(pattern, beginIndex, endIndex);
+			this.entries = entries;
+
+			// Evaluate entry once if it consists of simple entries only
+			this.constant = entries.stream().allMatch(entry -> entry instanceof SimpleEntry)
+					? entries.stream().map(entry -> ((SimpleEntry) entry).value).collect(Collectors.joining())
+					: null;
+			this.utf8Constant = constant != null ? constant.getBytes(StandardCharsets.UTF_8) : null;
 		}
 
-		private void parsePattern(final String pattern, final int beginIndex, final int endIndex) {
+		List<Entry> getEntries() {
+			return Collections.unmodifiableList(entries);
+		}
 
-			if (logger.isDebugEnabled()) {
-				logger.debug("parsing compound -> " + pattern.substring(beginIndex, endIndex));
-			}
+		/**
+		 * Checks whether this entry consists of simple entries only, i.e. its format
+		 * doesn't depend on the object being formatted.
+		 * 
+		 * @return {@code true} if entry is constant, {@code false} otherwise
+		 */
+		boolean isConstant() {
+			return constant != null;
+		}
 
-			boolean escape = false;
-			int escapeBeginIndex = 0;
+		/**
+		 * Returns value of the constant entry.
+		 * 
+		 * @return value of the entry or null if entry is not constant
+		 * @see #isConstant()
+		 */
+		String getConstant() {
+			return constant;
+		}
 
-			int entryBeginIndex = beginIndex;
-			int hitCount = 0;
+		@Override
+		public boolean formatTo(ObjectHolder<?> objectHolder, Locale locale, boolean empty, Appendable appendable)
+				throws Exception {
 
-			Type type = null;
-
-			for (int i = beginIndex; i < endIndex; i++) {
-
-				// If we are dealing with escape sequence
-				if (escape) {
-
-					// If current character is escape character
-					if (pattern.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
-
-						// Drop escape sequence flag
-						escape = false;
-
-						// Shift index
-						i += escapeSequence.length() - 1;
-					}
+			if (constant != null) {
 
+				if (appendable instanceof Utf8Sink) {
+					((Utf8Sink) appendable).write(utf8Constant);
 				} else {
-
-					// If current character is start variable character
-					if (pattern.regionMatches(i, variableStartSequence, 0, variableStartSequence.length())) {
-
-						// If we are dealing with simple type entry
-						if (type == Type.SIMPLE) {
-
-							// Add simple type entry
-							entries.add(new SimpleEntry(pattern, entryBeginIndex, i, configuration));
-
-							// Indicate that we have finished dealing with entry
-							type = null;
-						}
-
-						// If we are not dealing with any entry
-						if (type == null) {
-
-							// Indicate that we are dealing with variable type entry
-							type = Type.VARIABLE;
-
-							// Reset entry start index
-							entryBeginIndex = i + variableStartSequence.length();
-						}
-
-						// If we are dealing with variable type entry
-						if (type == Type.VARIABLE) {
-
-							// Increase hit count
-							hitCount++;
-						}
-
-						// Shift index
-						i += variableStartSequence.length() - 1;
-
-						// If current character is end variable character
-					} else if (pattern.regionMatches(i, variableEndSequence, 0, variableEndSequence.length())) {
-
-						// If we are not dealing with any entry
-						// or we are dealing with simple type entry
-						if (type == null || type == Type.SIMPLE) {
-							throw new PatternSyntaxException("missing start of variable", pattern, i);
-						}
-
-						// If we are dealing with variable type entry
-						if (type == Type.VARIABLE) {
-
-							// Decrease hit count
-							hitCount--;
-
-							// If hit count equals 0
-							// meaning we have hit end variable character
-							// of the entry we are dealing with
-							if (hitCount == 0) {
-
-								// Add variable type entry
-								entries.add(new VariableEntry(pattern, entryBeginIndex, i, configuration));
-
-								// Indicate that we have finished dealing with entry
-								type = null;
-							}
-						}
-
-						// Shift index
-						i += variableEndSequence.length() - 1;
-
-					} else {
-
-						// If we are not dealing with any entry
-						if (type == null) {
-
-							// Indicate that we are dealing with simple type entry
-							type = Type.SIMPLE;
-
-							// Reset entry start index
-							entryBeginIndex = i;
-						}
-
-						// If current character is escape character
-						if (pattern.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
-
-							// Rise escape sequence flag
-							escape = true;
-
-							// Reset escape start index
-							escapeBeginIndex = i;
-
-							// Shift index
-							i += escapeSequence.length() - 1;
-						}
-					}
+					appendable.append(constant);
 				}
 
-				// If this is the last character
-				if (i == (endIndex - 1)) {
-
-					// If we are dealing with escape sequence
-					if (escape) {
-
-						throw new PatternSyntaxException("missing end of escape sequence", pattern, escapeBeginIndex);
-
-						// If we are dealing with simple type entry
-					} else if (type == Type.SIMPLE) {
-
-						// Add simple type entry
-						entries.add(new SimpleEntry(pattern, entryBeginIndex, endIndex, configuration));
+				return !constant.isEmpty();
+			}
 
-						// If we are dealing with variable type entry
-					} else if (type == Type.VARIABLE) {
+			boolean appended = false;
 
-						throw new PatternSyntaxException("missing end of variable", pattern, entryBeginIndex);
-					}
-				}
+			for (int i = 0; i < entries.size(); i++) {
+				appended |= entries.get(i).formatTo(objectHolder, locale, empty && !appended, appendable);
 			}
+
+			return appended;
 		}
 
 		@Override
 		public String format(ObjectHolder<?> objectHolder, Locale locale, boolean empty) throws Exception {
 
-			StringBuilder result = new StringBuilder();
-
-			for (Entry entry : entries) {
-
-				// TODO: is it OK to always check on zero length?
+			if (constant != null) {
+				return constant;
+			}
 
-				String format = entry.format(objectHolder, locale, empty && (result.length() == 0));
+			StringBuilder result = new StringBuilder();
 
-				if (format != null) {
-					result.append(format);
-				}
-			}
+			formatTo(objectHolder, locale, empty, result);
 
 			return result.toString();
 		}
@@ -617,6 +950,37 @@ public class ObjectFormatter {
 	 * <td></td>
 	 * </tr>
 	 * <tr>
+	 * <td scope="row">padding</td>
+	 * <td>Width the value of the variable is padded to in the form of
+	 * {@code [fill:]width}. Positive width pads the value on the left, negative
+	 * width pads the value on the right. Value longer than the width is left as it
+	 * is</td>
+	 * <td>yes</td>
+	 * <td>Space as a fill character</td>
+	 * </tr>
+	 * <tr>
+	 * <td scope="row">prefix</td>
+	 * <td>Value that would be prepended in case of the value of the variable is
+	 * not empty</td>
+	 * <td>yes</td>
+	 * <td></td>
+	 * </tr>
+	 * <tr>
+	 * <td scope="row">suffix</td>
+	 * <td>Value that would be appended in case of the value of the variable is not
+	 * empty</td>
+	 * <td>yes</td>
+	 * <td></td>
+	 * </tr>
+	 * <tr>
+	 * <td scope="row">truncate</td>
+	 * <td>Whether the value of the variable longer than the padding width should
+	 * be truncated to the width, either {@code true} or {@code false}. Requires
+	 * padding to be defined</td>
+	 * <td>yes</td>
+	 * <td>false</td>
+	 * </tr>
+	 * <tr>
 	 * <td scope="row">separator</td>
 	 * <td>In case of the object's property is of type of collection separator will
 	 * be used to concatenate all the collection's values</td>
@@ -669,363 +1033,438 @@ public class ObjectFormatter {
 	 */
 	static final class VariableEntry extends BaseEntry {
 
-		private Pair<String, Entry> idData;
-
-		private Pair<String, Entry> paddingData;
+		private static final ThreadLocal<StringBuilder> DECORATION_BUILDER = ThreadLocal
+				.withInitial(StringBuilder::new);
 
-		private Pair<String, Entry> prefixData;
+		private static final ThreadLocal<char[]> DECORATION_CHARS = ThreadLocal.withInitial(() -> new char[64]);
 
-		private Pair<String, Entry> suffixData;
+		private final Pair<String, Entry> idData;
 
-		private Pair<String, Entry> separatorData;
+		private final Pair<String, Entry> paddingData;
 
-		private Pair<String, Entry> patternData;
+		private final Pair<String, Entry> prefixData;
 
-		private Pair<String, Entry> defaultData;
+		private final Pair<String, Entry> suffixData;
 
-		VariableEntry(final String pattern, final int beginIndex, final int endIndex, Configuration configuration) {
+		private final Pair<String, Entry> truncateData;
 
-			super(pattern, beginIndex, endIndex, configuration);
-
-			// Parse pattern
-			parsePattern(pattern, beginIndex, endIndex);
-		}
-
-		public void parsePattern(final String pattern, final int beginIndex, final int endIndex) {
-
-			if (logger.isDebugEnabled()) {
-				logger.debug("parsing variable -> " + pattern.substring(beginIndex, endIndex));
-			}
+		private final Pair<String, Entry> separatorData;
 
-			boolean escape = false;
+		private final Pair<String, Entry> patternData;
 
-			int propertyBeginIndex = beginIndex;
-			int hitCount = 0;
+		private final Pair<String, Entry> defaultData;
 
-			Type type = null;
+		private boolean constantId;
 
-			for (int i = beginIndex; i < endIndex; i++) {
+		private String constantObjectId;
 
-				// If we are dealing with escape sequence
-				if (escape) {
+		private String constantPropertyId;
 
-					// If current character is escape character
-					if (pattern.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
+		private Padding constantPadding;
 
-						// Drop escape sequence flag
-						escape = false;
+		private Boolean constantTruncate;
 
-						// Shift index
-						i += escapeSequence.length() - 1;
-					}
+		private final PropertyCache propertyCache = new PropertyCache();
 
-				} else {
+		private final FormatterRegistry formatterRegistry;
 
-					// If current character is start variable character
-					if (pattern.regionMatches(i, variableStartSequence, 0, variableStartSequence.length())) {
+		private final ConverterRegistry converterRegistry;
 
-						// If we are not dealing with any entry
-						if (type == null) {
-
-							// Indicate that we are dealing with variable type entry
-							type = Type.VARIABLE;
-						}
+		VariableEntry(final String pattern, final int beginIndex, final int endIndex, Configuration configuration,
+				Pair<String, Entry> idData, Pair<String, Entry> paddingData, Pair<String, Entry> prefixData,
+				Pair<String, Entry> suffixData, Pair<String, Entry> truncateData, Pair<String, Entry> separatorData,
+				Pair<String, Entry> patternData, Pair<String, Entry> defaultData) {
 
-						// If we are dealing with variable type entry
-						if (type == Type.VARIABLE) {
+			super(pattern, beginIndex, endIndex, configuration);
 
-							// Increase hit count
-							hitCount++;
-						}
+			this.idData = idData;
+			this.paddingData = paddingData;
+			this.prefixData = prefixData;
+			this.suffixData = suffixData;
+			this.truncateData = truncateData;
+			this.separatorData = separatorData;
+			this.patternData = patternData;
+			this.defaultData = defaultData;
 
-						// Shift index
-						i += variableStartSequence.length() - 1;
+			formatterRegistry = configuration.getFormatterRegistry();
+			converterRegistry = configuration.getConverterRegistry();
 
-						// If current character is end variable character
-					} else if (pattern.regionMatches(i, variableEndSequence, 0, variableEndSequence.length())) {
+			// If id doesn't depend on the object being formatted
+			// then split it once instead of doing it on each format
+			if (idData.getSecond() instanceof CompoundEntry && ((CompoundEntry) idData.getSecond()).isConstant()) {
 
-						// If we are dealing with variable type entry
-						if (type == Type.VARIABLE) {
+				String id = ((CompoundEntry) idData.getSecond()).getConstant();
 
-							// Decrease hit count
-							hitCount--;
+				int index = id.indexOf(variablePropertyValueSeparatorSequence);
 
-							// If hit count equals 0
-							// meaning we have hit end variable character
-							// of the entry we are dealing with
-							if (hitCount == 0) {
+				constantId = true;
+				constantObjectId = index >= 0 ? id.substring(0, index) : null;
+				constantPropertyId = index >= 0 ? id.substring(index + variablePropertyValueSeparatorSequence.length())
+						: id;
+			}
 
-								// Indicate that we have finished dealing with entry
-								type = null;
-							}
-						}
+			// If padding doesn't depend on the object being formatted
+			// then parse it once instead of doing it on each format
+			if (paddingData != null && paddingData.getSecond() instanceof CompoundEntry
+					&& ((CompoundEntry) paddingData.getSecond()).isConstant()) {
 
-						// Shift index
-						i += variableEndSequence.length() - 1;
+				CompoundEntry paddingEntry = (CompoundEntry) paddingData.getSecond();
 
-						// If current character is property separator character
-					} else if (pattern.regionMatches(i, variableSeparatorSequence, 0,
-							variableSeparatorSequence.length())) {
+				constantPadding = Padding.of(paddingEntry.getConstant(), variablePropertyValueSeparatorSequence);
 
-						if (hitCount == 0) {
+				if (constantPadding == null) {
+					throw new PatternSyntaxException(String.format("invalid %s property value \"%s\"",
+							variablePropertyNamePaddingSequence, paddingEntry.getConstant()), pattern,
+							paddingEntry.beginIndex);
+				}
+			}
 
-							// Parse property
-							parseProperty(pattern, propertyBeginIndex, i);
+			if (truncateData != null) {
 
-							// Reset property begin index
-							propertyBeginIndex = i + variableSeparatorSequence.length();
-						}
+				if (paddingData == null) {
+					throw new PatternSyntaxException(String.format("%s property requires %s property",
+							variablePropertyNameTruncateSequence, variablePropertyNamePaddingSequence), pattern,
+							beginIndex);
+				}
 
-						// Shift index
-						i += variableSeparatorSequence.length() - 1;
+				// If truncate doesn't depend on the object being formatted
+				// then parse it once instead of doing it on each format
+				if (truncateData.getSecond() instanceof CompoundEntry
+						&& ((CompoundEntry) truncateData.getSecond()).isConstant()) {
 
-						// If current character is escape character
-					} else if (pattern.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
+					CompoundEntry truncateEntry = (CompoundEntry) truncateData.getSecond();
 
-						// Rise escape sequence flag
-						escape = true;
+					constantTruncate = parseTruncate(truncateEntry.getConstant());
 
-						// Shift index
-						i += escapeSequence.length() - 1;
+					if (constantTruncate == null) {
+						throw new PatternSyntaxException(String.format("invalid %s property value \"%s\"",
+								variablePropertyNameTruncateSequence, truncateEntry.getConstant()), pattern,
+								truncateEntry.beginIndex);
 					}
 				}
+			}
+		}
 
-				// If this is the last character
-				if (i == (endIndex - 1)) {
+		private static Boolean parseTruncate(String value) {
 
-					// Parse property
-					parseProperty(pattern, propertyBeginIndex, endIndex);
-				}
+			if ("true".equals(value)) {
+				return Boolean.TRUE;
 			}
 
-			if (idData == null) {
-				throw new PatternSyntaxException(
-						String.format("missing mandatory variable property \"%s\"", variablePropertyNameIdSequence),
-						pattern, endIndex);
+			if ("false".equals(value)) {
+				return Boolean.FALSE;
 			}
+
+			return null;
+		}
+
+		/**
+		 * Checks whether the value of the variable is padded or wrapped with prefix or
+		 * suffix.
+		 * 
+		 * @return {@code true} if variable is decorated, {@code false} otherwise
+		 */
+		boolean isDecorated() {
+			return paddingData != null || prefixData != null || suffixData != null;
 		}
 
-		private void parseProperty(final String pattern, final int beginIndex, final int endIndex) {
+		/**
+		 * Returns padding of the variable if it doesn't depend on the object being
+		 * formatted.
+		 * 
+		 * @return the padding or null if padding is not defined or is not constant
+		 */
+		Padding getConstantPadding() {
+			return constantPadding;
+		}
+
+		@Override
+		public boolean formatTo(ObjectHolder<?> objectHolder, Locale locale, boolean empty, Appendable appendable)
+				throws Exception {
 
-			if (logger.isDebugEnabled()) {
-				logger.debug("parsing property of variable -> " + pattern.substring(beginIndex, endIndex));
+			if (!isDecorated()) {
+				return formatValueTo(objectHolder, locale, empty, appendable);
 			}
 
-			boolean escape = false;
+			// Decorations depend on the length of the value, so it is formatted right
+			// into the string builder, if any, and decorations are applied in place
+			if (appendable instanceof StringBuilder) {
+				return decorateTo(objectHolder, locale, empty, (StringBuilder) appendable);
+			}
 
-			for (int i = beginIndex; i < endIndex; i++) {
+			// Otherwise builder reused within the calling thread is used. Nested
+			// decorated variables append after the current content, so the builder is
+			// shared as a stack and restored once the value is appended
+			StringBuilder buffer = DECORATION_BUILDER.get();
 
-				// If we are dealing with escape sequence
-				if (escape) {
+			int decorationBeginIndex = buffer.length();
 
-					// If current character is escape character
-					if (pattern.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
+			try {
 
-						// Drop escape sequence flag
-						escape = false;
+				boolean appended = decorateTo(objectHolder, locale, empty, buffer);
 
-						// Shift index
-						i += escapeSequence.length() - 1;
-					}
+				if (appended) {
+					appendTo(buffer, decorationBeginIndex, appendable);
+				}
 
-				} else {
+				return appended;
 
-					// If current character is property value separator character
-					if (pattern.regionMatches(i, variablePropertySeparatorSequence, 0,
-							variablePropertySeparatorSequence.length())) {
+			} finally {
 
-						Pair<String, String> property = Pair.of(pattern.substring(beginIndex, i),
-								pattern.substring(i + variablePropertySeparatorSequence.length(), endIndex));
+				buffer.setLength(decorationBeginIndex);
+			}
+		}
 
-						if (TextUtil.isEmpty(property.getFirst())) {
-							throw new PatternSyntaxException("missing variable property name", pattern, beginIndex);
-						}
+		private boolean decorateTo(ObjectHolder<?> objectHolder, Locale locale, boolean empty, StringBuilder buffer)
+				throws Exception {
 
-						if (TextUtil.isEmpty(property.getSecond())) {
-							throw new PatternSyntaxException("missing variable property value", pattern, endIndex);
-						}
+			int decorationBeginIndex = buffer.length();
 
-						String name = unescape(property.getFirst());
-						String value = property.getSecond();
+			if (prefixData != null) {
+				prefixData.getSecond().formatTo(objectHolder, locale, empty, buffer);
+			}
 
-						if (name.equals(variablePropertyNameIdSequence)) {
+			int valueBeginIndex = buffer.length();
 
-							if (idData != null) {
-								throw new PatternSyntaxException(String.format("%s property value already defined",
-										variablePropertyNameIdSequence), pattern, beginIndex);
-							}
+			formatValueTo(objectHolder, locale, empty && valueBeginIndex == decorationBeginIndex, buffer);
 
-							idData = Pair.of(value, new CompoundEntry(pattern,
-									i + variablePropertySeparatorSequence.length(), endIndex, configuration));
+			if (buffer.length() == valueBeginIndex) {
 
-						} else if (name.equals(variablePropertyNameSeparatorSequence)) {
+				// Prefix is dropped if value is empty
+				buffer.setLength(decorationBeginIndex);
 
-							if (separatorData != null) {
-								throw new PatternSyntaxException(String.format("%s property value already defined",
-										variablePropertyNameSeparatorSequence), pattern, beginIndex);
-							}
+			} else if (suffixData != null) {
 
-							separatorData = Pair.of(value, new CompoundEntry(pattern,
-									i + variablePropertySeparatorSequence.length(), endIndex, configuration));
+				suffixData.getSecond().formatTo(objectHolder, locale, false, buffer);
+			}
 
-						} else if (name.equals(variablePropertyNamePatternSequence)) {
+			if (paddingData != null) {
 
-							if (patternData != null) {
-								throw new PatternSyntaxException(String.format("%s property value already defined",
-										variablePropertyNamePatternSequence), pattern, beginIndex);
-							}
+				Padding padding = constantPadding;
 
-							patternData = Pair.of(value, new CompoundEntry(pattern,
-									i + variablePropertySeparatorSequence.length(), endIndex, configuration));
+				if (padding == null) {
 
-						} else if (name.equals(variablePropertyNameDefaultSequence)) {
+					String value = paddingData.getSecond().format(objectHolder, locale, empty);
 
-							if (defaultData != null) {
-								throw new PatternSyntaxException(String.format("%s property value already defined",
-										variablePropertyNameDefaultSequence), pattern, beginIndex);
-							}
+					padding = Padding.of(value, variablePropertyValueSeparatorSequence);
 
-							defaultData = Pair.of(value, new CompoundEntry(pattern,
-									i + variablePropertySeparatorSequence.length(), endIndex, configuration));
+					if (padding == null) {
 
-						} else {
-							throw new PatternSyntaxException(
-									String.format("unsupported variable property \"%s\"", name), pattern, beginIndex);
+						if (logger.isErrorEnabled()) {
+							logger.error(String.format("invalid %s property value \"%s\"",
+									variablePropertyNamePaddingSequence, value));
 						}
 
-						// Shift index
-						i += variablePropertySeparatorSequence.length() - 1;
+						throw new FormatException(String.format("invalid %s property value \"%s\"",
+								variablePropertyNamePaddingSequence, value));
+					}
+				}
+
+				padding.padTo(buffer, decorationBeginIndex);
 
-						break;
+				if (truncateData != null) {
 
-						// If current character is escape character
-					} else if (pattern.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
+					Boolean truncate = constantTruncate;
 
-						// Rise escape sequence flag
-						escape = true;
+					if (truncate == null) {
 
-						// Shift index
-						i += escapeSequence.length() - 1;
-					}
-				}
+						String value = truncateData.getSecond().format(objectHolder, locale, empty);
+
+						truncate = parseTruncate(value);
+
+						if (truncate == null) {
 
-				// If this is the last character
-				if (i == (endIndex - 1)) {
+							if (logger.isErrorEnabled()) {
+								logger.error(String.format("invalid %s property value \"%s\"",
+										variablePropertyNameTruncateSequence, value));
+							}
 
-					if (idData != null) {
-						throw new PatternSyntaxException(
-								String.format("%s property value already defined", variablePropertyNameIdSequence),
-								pattern, beginIndex);
+							throw new FormatException(String.format("invalid %s property value \"%s\"",
+									variablePropertyNameTruncateSequence, value));
+						}
 					}
 
-					idData = Pair.of(variablePropertyNameIdSequence,
-							new CompoundEntry(pattern, beginIndex, endIndex, configuration));
+					if (truncate) {
+						padding.truncateTo(buffer, decorationBeginIndex);
+					}
 				}
 			}
+
+			return buffer.length() > decorationBeginIndex;
 		}
 
-		@SuppressWarnings({ "unchecked", "rawtypes" })
-		@Override
-		public String format(ObjectHolder<?> objectHolder, Locale locale, boolean empty) throws Exception {
+		private static void appendTo(StringBuilder buffer, int beginIndex, Appendable appendable) throws IOException {
 
-			String id = idData.getSecond().format(objectHolder, locale, empty);
+			if (appendable instanceof Writer) {
 
-			if (id == null) {
+				// Writer would copy the builder to a string, so it is copied to the array
+				// reused within the calling thread instead
+				int length = buffer.length() - beginIndex;
 
-				if (logger.isErrorEnabled()) {
-					logger.error("variable property id is empty");
+				char[] chars = DECORATION_CHARS.get();
+
+				if (chars.length < length) {
+					DECORATION_CHARS.set(chars = new char[Math.max(length, chars.length * 2)]);
 				}
 
-				throw new FormatException("variable property id is empty");
+				buffer.getChars(beginIndex, buffer.length(), chars, 0);
+
+				((Writer) appendable).write(chars, 0, length);
+
+			} else {
+
+				appendable.append(buffer, beginIndex, buffer.length());
 			}
+		}
 
-			String[] values = id.split(Pattern.quote(variablePropertyValueSeparatorSequence), 2);
+		private boolean formatValueTo(ObjectHolder<?> objectHolder, Locale locale, boolean empty,
+				Appendable appendable) throws Exception {
 
-			String objectId = values.length == 2 ? values[0] : null;
-			String propertyId = values.length == 2 ? values[1] : values[0];
+			String objectId = constantObjectId;
+			String propertyId = constantPropertyId;
 
-			Class<? extends Converter<?, ?>> targetObjectConverter = null;
-			Class<? extends Formatter<?>> targetObjectFormatter = null;
-			ObjectHolder<?> targetObjectHolder = null;
+			if (!constantId) {
+
+				String id = idData.getSecond().format(objectHolder, locale, empty);
+
+				if (id == null) {
+
+					if (logger.isErrorEnabled()) {
+						logger.error("variable property id is empty");
+					}
+
+					throw new FormatException("variable property id is empty");
+				}
+
+				int index = id.indexOf(variablePropertyValueSeparatorSequence);
+
+				objectId = index >= 0 ? id.substring(0, index) : null;
+				propertyId = index >= 0 ? id.substring(index + variablePropertyValueSeparatorSequence.length()) : id;
+			}
 
 			ObjectHolder<?> parentObjectHolder = objectHolder;
 
-			outer: while (parentObjectHolder != null) {
+			while (parentObjectHolder != null) {
 
 				ObjectMetadata objectMetadata = parentObjectHolder.getMetadata();
 
-				if (objectId == null || objectMetadata.getId().equals(objectId)
-						|| objectMetadata.getAliases().contains(objectId)) {
-
-					for (PropertyMetadata propertyMetadata : objectMetadata.getProperties()) {
+				Object resolution = null;
 
-						if (propertyMetadata.getId().equals(propertyId)
-								|| propertyMetadata.getAliases().contains(propertyId)) {
+				if (constantId) {
 
-							targetObjectConverter = propertyMetadata.getConverter();
-							targetObjectFormatter = propertyMetadata.getFormatter();
+					resolution = propertyCache.get(objectMetadata);
 
-							Object object = propertyMetadata.getValue(parentObjectHolder.getObject());
+					if (resolution == null) {
 
-							if (object != null) {
-								targetObjectHolder = ObjectHolder.of(object, objectHolder, configuration);
-							} else {
-								targetObjectHolder = ObjectHolder.of(propertyMetadata.getType(), objectHolder,
-										configuration);
-							}
+						resolution = resolveProperty(objectMetadata, objectId, propertyId);
 
-							break outer;
-						}
+						propertyCache.put(objectMetadata, resolution);
 					}
 
-					if (objectId != null) {
+				} else {
 
-						if (logger.isErrorEnabled()) {
-							logger.error(String.format("property with id %s of object with id %s is not found",
-									propertyId, objectId));
-						}
+					resolution = resolveProperty(objectMetadata, objectId, propertyId);
+				}
+
+				if (resolution instanceof PropertyMetadata) {
+					return formatTo((PropertyMetadata) resolution, parentObjectHolder.getObject(), objectHolder, locale,
+							empty, appendable);
+				}
 
-						throw new FormatException(String.format("property with id %s of object with id %s is not found",
-								propertyId, objectId));
+				if (resolution == PropertyCache.MISSING && objectId != null) {
+
+					if (logger.isErrorEnabled()) {
+						logger.error(String.format("property with id %s of object with id %s is not found", propertyId,
+								objectId));
 					}
+
+					throw new FormatException(
+							String.format("property with id %s of object with id %s is not found", propertyId, objectId));
 				}
 
 				parentObjectHolder = parentObjectHolder.getParent();
 			}
 
-			if (targetObjectHolder == null) {
+			if (objectId != null) {
 
-				if (objectId != null) {
+				if (logger.isErrorEnabled()) {
+					logger.error(String.format("object with id %s is not found", objectId));
+				}
 
-					if (logger.isErrorEnabled()) {
-						logger.error(String.format("object with id %s is not found", objectId));
-					}
+				throw new FormatException(String.format("object with id %s is not found", objectId));
+			}
 
-					throw new FormatException(String.format("object with id %s is not found", objectId));
-				}
+			if (logger.isErrorEnabled()) {
+				logger.error(String.format("property with id %s is not found", propertyId));
+			}
 
-				if (logger.isErrorEnabled()) {
-					logger.error(String.format("property with id %s is not found", propertyId));
+			throw new FormatException(String.format("property with id %s is not found", propertyId));
+		}
+
+		/**
+		 * Formats value of the already resolved property.
+		 * 
+		 * @param propertyMetadata of the property to format
+		 * @param owner            of the property
+		 * @param objectHolder     being formatted
+		 * @param locale           to use
+		 * @param empty            whether nothing has been appended by the enclosing
+		 *                         entry yet
+		 * @param appendable       to append result to
+		 * @return {@code true} if anything was appended, {@code false} otherwise
+		 * @throws Exception if formatting failed
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private boolean formatTo(PropertyMetadata propertyMetadata, Object owner, ObjectHolder<?> objectHolder,
+				Locale locale, boolean empty, Appendable appendable) throws Exception {
+
+			Class<? extends Converter<?, ?>> targetObjectConverter = propertyMetadata.getConverter();
+			Class<? extends Formatter<?>> targetObjectFormatter = propertyMetadata.getFormatter();
+			ObjectHolder<?> targetObjectHolder = null;
+
+			Class<?> propertyType = propertyMetadata.getType();
+
+			if (owner != null && propertyType.isPrimitive() && targetObjectConverter == null
+					&& formatPrimitiveTo(propertyMetadata, propertyType, owner, targetObjectFormatter, locale,
+							appendable)) {
+				return true;
+			}
+
+			Object value = propertyMetadata.getValue(owner);
+
+			if (value != null && patternData == null && targetObjectConverter == null && targetObjectFormatter == null
+					&& isScalar(value.getClass())) {
+
+				Class<?> type = value.getClass();
+
+				if (configuration.getDelegateConfiguration().getDelegate(type) == null
+						&& converterRegistry.getConverter(MetadataUtil.normalizeType(type)) == null
+						&& isStandardFormatter(formatterRegistry.getFormatter(type))) {
+					return formatScalarTo(value, appendable);
 				}
+			}
 
-				throw new FormatException(String.format("property with id %s is not found", propertyId));
+			if (value != null) {
+				targetObjectHolder = ObjectHolder.of(value, objectHolder, configuration);
+			} else {
+				targetObjectHolder = ObjectHolder.of(propertyMetadata.getType(), objectHolder, configuration);
 			}
 
 			Converter converter = null;
 
 			if (targetObjectConverter != null) {
 
-				converter = targetObjectConverter.newInstance();
+				converter = InstanceUtil.getInstance(targetObjectConverter);
 
 			} else if (targetObjectHolder.getMetadata().getConverter() != null) {
 
-				converter = targetObjectHolder.getMetadata().getConverter().newInstance();
+				converter = InstanceUtil.getInstance(targetObjectHolder.getMetadata().getConverter());
 
 			} else {
 
-				Class<?> type = targetObjectHolder.getMetadata().getType();
+				Class<?> type = MetadataUtil.normalizeType(targetObjectHolder.getMetadata().getType());
 
-				converter = ConverterRegistry.get().getConverter(type);
+				converter = converterRegistry.getConverter(type);
 			}
 
 			if (converter != null) {
@@ -1043,17 +1482,17 @@ public class ObjectFormatter {
 
 			if (targetObjectFormatter != null) {
 
-				formatter = targetObjectFormatter.newInstance();
+				formatter = InstanceUtil.getInstance(targetObjectFormatter);
 
 			} else if (targetObjectHolder.getMetadata().getFormatter() != null) {
 
-				formatter = targetObjectHolder.getMetadata().getFormatter().newInstance();
+				formatter = InstanceUtil.getInstance(targetObjectHolder.getMetadata().getFormatter());
 
 			} else {
 
 				Class<?> type = targetObjectHolder.getMetadata().getType();
 
-				formatter = FormatterRegistry.get().getFormatter(type);
+				formatter = formatterRegistry.getFormatter(type);
 			}
 
 			String result = null;
@@ -1066,18 +1505,367 @@ public class ObjectFormatter {
 
 			} else if (patternData != null) {
 
-				result = patternData.getSecond().format(targetObjectHolder, locale, empty);
+				return patternData.getSecond().formatTo(targetObjectHolder, locale, empty, appendable);
 
 			} else if (targetObjectHolder.getObject() != null) {
 
 				result = targetObjectHolder.getObject().toString();
 			}
 
-			if (result == null && defaultData != null) {
-				result = defaultData.getSecond().format(objectHolder, locale, true);
+			if (result == null) {
+				return defaultData != null ? defaultData.getSecond().formatTo(objectHolder, locale, true, appendable)
+						: false;
+			}
+
+			appendable.append(result);
+
+			return !result.isEmpty();
+		}
+
+		/**
+		 * Formats value of the primitive property without boxing it, if the
+		 * formatter resolved for the property supports it. See {@link IntFormatter},
+		 * {@link LongFormatter} and {@link DoubleFormatter}.
+		 * 
+		 * @param propertyMetadata of the property to format
+		 * @param propertyType     primitive type of the property
+		 * @param owner            of the property
+		 * @param formatterType    declared for the property, can be null
+		 * @param locale           to use
+		 * @param appendable       to append result to
+		 * @return {@code true} if the value was formatted, {@code false} if the
+		 *         property should be formatted the regular way
+		 * @throws Exception if formatting failed
+		 */
+		private boolean formatPrimitiveTo(PropertyMetadata propertyMetadata, Class<?> propertyType, Object owner,
+				Class<? extends Formatter<?>> formatterType, Locale locale, Appendable appendable) throws Exception {
+
+			Class<?> boxedType = null;
+
+			if (propertyType == int.class) {
+				boxedType = Integer.class;
+			} else if (propertyType == long.class) {
+				boxedType = Long.class;
+			} else if (propertyType == double.class) {
+				boxedType = Double.class;
+			} else if (propertyType == short.class) {
+				boxedType = Short.class;
+			} else if (propertyType == byte.class) {
+				boxedType = Byte.class;
+			} else {
+				return false;
+			}
+
+			Formatter<?> formatter = null;
+
+			if (formatterType != null) {
+
+				formatter = InstanceUtil.getInstance(formatterType);
+
+			} else if (configuration.getDelegateConfiguration().getDelegate(boxedType) == null
+					&& converterRegistry.getConverter(Number.class) == null) {
+
+				formatter = formatterRegistry.getFormatter(boxedType);
+			}
+
+			String pattern = patternData != null ? patternData.getFirst() : null;
+
+			if (propertyType == long.class) {
+
+				if (formatter instanceof LongFormatter) {
+
+					((LongFormatter) formatter).formatLong(propertyMetadata.getLong(owner), configuration, pattern,
+							locale, appendable);
+
+					return true;
+				}
+
+			} else if (propertyType == double.class) {
+
+				if (formatter instanceof DoubleFormatter) {
+
+					((DoubleFormatter) formatter).formatDouble(propertyMetadata.getDouble(owner), configuration,
+							pattern, locale, appendable);
+
+					return true;
+				}
+
+			} else if (formatter instanceof IntFormatter) {
+
+				((IntFormatter) formatter).formatInt(propertyMetadata.getInt(owner), configuration, pattern, locale,
+						appendable);
+
+				return true;
+			}
+
+			return false;
+		}
+
+		/**
+		 * Checks whether values of indicated {@code type} can be written directly,
+		 * without wrapping them into object holders and calling formatters.
+		 * 
+		 * @param type of the value
+		 * @return {@code true} if the value is a scalar, {@code false} otherwise
+		 */
+		private static boolean isScalar(Class<?> type) {
+			return type == String.class || type == Integer.class || type == Long.class || type == Boolean.class
+					|| type == Character.class || type == Short.class || type == Byte.class;
+		}
+
+		/**
+		 * Checks whether indicated {@code formatter} is the standard one, so writing
+		 * the scalar value directly produces the same result.
+		 * 
+		 * @param formatter registered for the type of the value
+		 * @return {@code true} if the formatter is standard, {@code false} otherwise
+		 */
+		private static boolean isStandardFormatter(Formatter<?> formatter) {
+
+			if (formatter == null) {
+				return false;
+			}
+
+			Class<?> type = formatter.getClass();
+
+			return type == StringFormatter.class || type == NumberFormatter.class || type == BooleanFormatter.class
+					|| type == CharacterFormatter.class;
+		}
+
+		/**
+		 * Writes scalar value directly to indicated {@code appendable}. Integral
+		 * values are written without intermediate strings when appending to a
+		 * {@link StringBuilder}.
+		 * 
+		 * @param value      to write
+		 * @param appendable to append value to
+		 * @return {@code true} if anything was appended, {@code false} otherwise
+		 * @throws IOException if appending failed
+		 */
+		private static boolean formatScalarTo(Object value, Appendable appendable) throws IOException {
+
+			Class<?> type = value.getClass();
+
+			if (type == String.class) {
+
+				String string = (String) value;
+
+				appendable.append(string);
+
+				return !string.isEmpty();
+			}
+
+			if (type == Boolean.class) {
+
+				appendable.append(((Boolean) value).booleanValue() ? "true" : "false");
+
+				return true;
+			}
+
+			if (type == Character.class) {
+
+				appendable.append(((Character) value).charValue());
+
+				return true;
+			}
+
+			if (appendable instanceof StringBuilder) {
+				((StringBuilder) appendable).append(((Number) value).longValue());
+			} else {
+				appendable.append(value.toString());
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * Resolves property with indicated {@code propertyId} of the object described
+	 * by indicated {@code objectMetadata}.
+	 * 
+	 * @param objectMetadata of the object to resolve property of
+	 * @param objectId       of the object, can be null
+	 * @param propertyId     of the property
+	 * @return property metadata if property found, {@link PropertyCache#UNMATCHED}
+	 *         if object doesn't match {@code objectId} or
+	 *         {@link PropertyCache#MISSING} if there is no such property
+	 */
+	static Object resolveProperty(ObjectMetadata objectMetadata, String objectId, String propertyId) {
+
+		if (objectId != null && !objectMetadata.getId().equals(objectId)
+				&& !objectMetadata.getAliases().contains(objectId)) {
+			return PropertyCache.UNMATCHED;
+		}
+
+		for (PropertyMetadata propertyMetadata : objectMetadata.getProperties()) {
+
+			if (propertyMetadata.getId().equals(propertyId) || propertyMetadata.getAliases().contains(propertyId)) {
+				return propertyMetadata;
+			}
+		}
+
+		return PropertyCache.MISSING;
+	}
+
+	/**
+	 * Padding of the variable entry value in the form of {@code [fill:]width}.
+	 * Positive width pads the value on the left, negative width pads the value on
+	 * the right. Fill characters are kept in a prefilled array, so padding writes
+	 * them right into the buffer.
+	 * 
+	 * @author Artem Abeleshev
+	 */
+	static final class Padding {
+
+		private static final char FILL_DEFAULT_VALUE = ' ';
+
+		private final int width;
+
+		private final char[] fill;
+
+		/**
+		 * Parses padding from indicated {@code value}.
+		 * 
+		 * @param value                  to parse
+		 * @param valueSeparatorSequence separating fill character from the width
+		 * @return the padding or null if value is not a valid padding
+		 */
+		static Padding of(String value, String valueSeparatorSequence) {
+
+			if (value == null) {
+				return null;
+			}
+
+			int index = value.lastIndexOf(valueSeparatorSequence);
+
+			String fill = index >= 0 ? value.substring(0, index) : null;
+			String width = index >= 0 ? value.substring(index + valueSeparatorSequence.length()) : value;
+
+			if (fill != null && fill.length() != 1) {
+				return null;
+			}
+
+			try {
+				return new Padding(Integer.parseInt(width.trim()), fill != null ? fill.charAt(0) : FILL_DEFAULT_VALUE);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		private Padding(int width, char fill) {
+
+			this.width = width;
+			this.fill = new char[Math.abs(width)];
+
+			Arrays.fill(this.fill, fill);
+		}
+
+		/**
+		 * Pads value starting at indicated {@code beginIndex} till the end of the
+		 * {@code buffer}.
+		 * 
+		 * @param buffer     holding the value
+		 * @param beginIndex of the value
+		 */
+		void padTo(StringBuilder buffer, int beginIndex) {
+
+			int count = fill.length - (buffer.length() - beginIndex);
+
+			if (count <= 0) {
+				return;
+			}
+
+			if (width > 0) {
+				buffer.insert(beginIndex, fill, 0, count);
+			} else {
+				buffer.append(fill, 0, count);
+			}
+		}
+
+		/**
+		 * Truncates value starting at indicated {@code beginIndex} to the width of
+		 * the padding, leading characters of the value are kept.
+		 * 
+		 * @param buffer     holding the value
+		 * @param beginIndex of the value
+		 */
+		void truncateTo(StringBuilder buffer, int beginIndex) {
+
+			if (buffer.length() - beginIndex > fill.length) {
+				buffer.setLength(beginIndex + fill.length);
+			}
+		}
+
+		/**
+		 * Returns width of the padding, negative width means value is padded on the
+		 * right.
+		 * 
+		 * @return the width
+		 */
+		int getWidth() {
+			return width;
+		}
+	}
+
+	/**
+	 * Inline cache of the property resolutions of the variable entry. Keeps up to
+	 * {@link #CAPACITY} resolutions keyed by the object metadata identity. Once the
+	 * capacity is reached the variable entry is considered megamorphic and no more
+	 * resolutions are cached, resolving the rest of the types on each format.
+	 * Together with the constant ids split at parse time this takes the property
+	 * lookup off the formatting path for the types already seen, so formatting a
+	 * known type reads the property right away.
+	 * 
+	 * @author Artem Abeleshev
+	 */
+	static final class PropertyCache {
+
+		static final Object UNMATCHED = new Object();
+
+		static final Object MISSING = new Object();
+
+		private static final int CAPACITY = 4;
+
+		private volatile CacheEntry[] entries = new CacheEntry[0];
+
+		Object get(ObjectMetadata objectMetadata) {
+
+			CacheEntry[] entries = this.entries;
+
+			for (int i = 0; i < entries.length; i++) {
+
+				if (entries[i].objectMetadata == objectMetadata) {
+					return entries[i].resolution;
+				}
 			}
 
-			return result;
+			return null;
+		}
+
+		synchronized void put(ObjectMetadata objectMetadata, Object resolution) {
+
+			if (entries.length >= CAPACITY || get(objectMetadata) != null) {
+				return;
+			}
+
+			CacheEntry[] entries = Arrays.copyOf(this.entries, this.entries.length + 1);
+
+			entries[entries.length - 1] = new CacheEntry(objectMetadata, resolution);
+
+			this.entries = entries;
+		}
+
+		private static final class CacheEntry {
+
+			private final ObjectMetadata objectMetadata;
+
+			private final Object resolution;
+
+			private CacheEntry(ObjectMetadata objectMetadata, Object resolution) {
+
+				this.objectMetadata = objectMetadata;
+				this.resolution = resolution;
+			}
 		}
 	}
 
@@ -1136,26 +1924,30 @@ public class ObjectFormatter {
 
 		String value;
 
+		/**
+		 * Value encoded to UTF-8 once, see {@link Utf8Sink}.
+		 */
+		final byte[] utf8Value;
+
 		SimpleEntry(final String pattern, final int beginIndex, final int endIndex, Configuration configuration) {
 
 			super(pattern, beginIndex, endIndex, configuration);
 
-			// Parse pattern
-			parsePattern(pattern, beginIndex, endIndex);
+			this.value = unescape(pattern.substring(beginIndex, endIndex));
+			this.utf8Value = value.getBytes(StandardCharsets.UTF_8);
 		}
 
-		private void parsePattern(final String pattern, final int beginIndex, final int endIndex) {
+		@Override
+		public boolean formatTo(ObjectHolder<?> objectHolder, Locale locale, boolean empty, Appendable appendable)
+				throws Exception {
 
-			if (logger.isDebugEnabled()) {
-				logger.debug("parsing simple -> " + pattern.substring(beginIndex, endIndex));
+			if (appendable instanceof Utf8Sink) {
+				((Utf8Sink) appendable).write(utf8Value);
+			} else {
+				appendable.append(value);
 			}
 
-			this.value = unescape(pattern.substring(beginIndex, endIndex));
-		}
-
-		@Override
-		public String format(ObjectHolder<?> objectHolder, Locale locale, boolean empty) throws Exception {
-			return value;
+			return !value.isEmpty();
 		}
 	}
 }
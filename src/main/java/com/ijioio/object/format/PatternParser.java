@@ -0,0 +1,554 @@
+package com.ijioio.object.format;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ijioio.object.format.Configuration.ParserConfiguration;
+import com.ijioio.object.format.ObjectFormatter.CompoundEntry;
+import com.ijioio.object.format.ObjectFormatter.Entry;
+import com.ijioio.object.format.ObjectFormatter.SimpleEntry;
+import com.ijioio.object.format.ObjectFormatter.VariableEntry;
+import com.ijioio.object.format.util.TextUtil;
+import com.ijioio.object.format.util.TupleUtil.Pair;
+
+/**
+ * Parser building the entries tree of the pattern. The pattern is scanned once
+ * from left to right: every entry is built by a recursive descent from the
+ * position the enclosing entry has stopped at, so nested variables are not
+ * rescanned by the enclosing ones and parsing takes linear time regardless of
+ * the nesting depth.
+ *
+ * <p>
+ * Parser is not thread safe and is meant to be used for a single pattern only.
+ *
+ * @see CompoundEntry
+ * @see VariableEntry
+ * @see SimpleEntry
+ */
+final class PatternParser {
+
+	private static final Logger logger = LoggerFactory.getLogger(PatternParser.class);
+
+	/**
+	 * Marks that property separators are not being tracked.
+	 */
+	private static final int UNTRACKED = -2;
+
+	/**
+	 * Marks that property separators are being tracked, but none is met yet.
+	 */
+	private static final int TRACKED = -1;
+
+	private final String pattern;
+
+	private final Configuration configuration;
+
+	private final String escapeSequence;
+
+	private final String variableStartSequence;
+
+	private final String variableEndSequence;
+
+	private final String variableSeparatorSequence;
+
+	private final String variablePropertySeparatorSequence;
+
+	private final String variablePropertyNameIdSequence;
+
+	private final String variablePropertyNamePaddingSequence;
+
+	private final String variablePropertyNamePrefixSequence;
+
+	private final String variablePropertyNameSuffixSequence;
+
+	private final String variablePropertyNameTruncateSequence;
+
+	private final String variablePropertyNameSeparatorSequence;
+
+	private final String variablePropertyNamePatternSequence;
+
+	private final String variablePropertyNameDefaultSequence;
+
+	private int index;
+
+	/**
+	 * Index of the first property separator met while parsing a variable property
+	 * without a name, see {@link #parseIdShorthand()}.
+	 */
+	private int propertySeparatorIndex = UNTRACKED;
+
+	PatternParser(String pattern, Configuration configuration) {
+
+		this.pattern = pattern;
+		this.configuration = configuration;
+
+		ParserConfiguration parserConfiguration = configuration.getParserConfiguration();
+
+		this.escapeSequence = parserConfiguration.getEscapeSequence();
+		this.variableStartSequence = parserConfiguration.getVariableStartSequence();
+		this.variableEndSequence = parserConfiguration.getVariableEndSequence();
+		this.variableSeparatorSequence = parserConfiguration.getVariableSeparatorSequence();
+		this.variablePropertySeparatorSequence = parserConfiguration.getVariablePropertySeparatorSequence();
+		this.variablePropertyNameIdSequence = parserConfiguration.getVariablePropertyNameIdSequence();
+		this.variablePropertyNamePaddingSequence = parserConfiguration.getVariablePropertyNamePaddingSequence();
+		this.variablePropertyNamePrefixSequence = parserConfiguration.getVariablePropertyNamePrefixSequence();
+		this.variablePropertyNameSuffixSequence = parserConfiguration.getVariablePropertyNameSuffixSequence();
+		this.variablePropertyNameTruncateSequence = parserConfiguration.getVariablePropertyNameTruncateSequence();
+		this.variablePropertyNameSeparatorSequence = parserConfiguration.getVariablePropertyNameSeparatorSequence();
+		this.variablePropertyNamePatternSequence = parserConfiguration.getVariablePropertyNamePatternSequence();
+		this.variablePropertyNameDefaultSequence = parserConfiguration.getVariablePropertyNameDefaultSequence();
+	}
+
+	/**
+	 * Parses the whole pattern.
+	 *
+	 * @return the root entry of the pattern, not null
+	 * @throws PatternSyntaxException if the pattern is invalid
+	 */
+	CompoundEntry parse() {
+
+		index = 0;
+
+		return parseCompound(false);
+	}
+
+	/**
+	 * Parses compound entry starting at the current position. Top level compound
+	 * entry spans till the end of the pattern, while the nested one (i.e. value of
+	 * a variable property) stops at the variable separator or the end of the
+	 * variable.
+	 *
+	 * @param nested whether compound entry is a value of a variable property
+	 * @return the compound entry, not null
+	 */
+	private CompoundEntry parseCompound(boolean nested) {
+
+		int beginIndex = index;
+		int simpleBeginIndex = -1;
+
+		List<Entry> entries = new ArrayList<>();
+
+		while (index < pattern.length()) {
+
+			// If current character is start variable character
+			if (pattern.startsWith(variableStartSequence, index)) {
+
+				// If we are dealing with simple type entry
+				if (simpleBeginIndex >= 0) {
+
+					// Add simple type entry
+					entries.add(new SimpleEntry(pattern, simpleBeginIndex, index, configuration));
+
+					simpleBeginIndex = -1;
+				}
+
+				// Add variable type entry
+				entries.add(parseVariable());
+
+				// If current character is end variable character
+			} else if (pattern.startsWith(variableEndSequence, index)) {
+
+				if (!nested) {
+					throw new PatternSyntaxException("missing start of variable", pattern, index);
+				}
+
+				break;
+
+				// If current character is property separator character
+			} else if (nested && pattern.startsWith(variableSeparatorSequence, index)) {
+
+				break;
+
+			} else {
+
+				// If we are not dealing with any entry, adjacent literals including
+				// the escaped ones are collected into a single simple entry
+				if (simpleBeginIndex < 0) {
+					simpleBeginIndex = index;
+				}
+
+				// If current character is escape character
+				if (pattern.startsWith(escapeSequence, index)) {
+
+					index = skipEscape(index);
+
+				} else {
+
+					// If current character is property value separator character
+					if (pattern.startsWith(variablePropertySeparatorSequence, index)) {
+						trackPropertySeparator(index);
+					}
+
+					index++;
+				}
+			}
+		}
+
+		// If we are dealing with simple type entry
+		if (simpleBeginIndex >= 0) {
+
+			// Add simple type entry
+			entries.add(new SimpleEntry(pattern, simpleBeginIndex, index, configuration));
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("parsed compound -> " + pattern.substring(beginIndex, index));
+		}
+
+		return new CompoundEntry(pattern, beginIndex, index, configuration, entries);
+	}
+
+	/**
+	 * Parses variable entry starting at the current position, which is expected
+	 * to be the start variable sequence. Stops right after the end variable
+	 * sequence.
+	 *
+	 * @return the variable entry, not null
+	 */
+	private VariableEntry parseVariable() {
+
+		int beginIndex = index + variableStartSequence.length();
+
+		try {
+
+			return parseVariable(beginIndex);
+
+		} catch (PatternSyntaxException e) {
+
+			// Missing end of variable takes precedence over any error within
+			checkVariableEnd(beginIndex);
+
+			throw e;
+		}
+	}
+
+	private VariableEntry parseVariable(int beginIndex) {
+
+		index = beginIndex;
+
+		Pair<String, Entry> idData = null;
+		Pair<String, Entry> paddingData = null;
+		Pair<String, Entry> prefixData = null;
+		Pair<String, Entry> suffixData = null;
+		Pair<String, Entry> truncateData = null;
+		Pair<String, Entry> separatorData = null;
+		Pair<String, Entry> patternData = null;
+		Pair<String, Entry> defaultData = null;
+
+		while (true) {
+
+			if (index >= pattern.length()) {
+				throw new PatternSyntaxException("missing end of variable", pattern, beginIndex);
+			}
+
+			// If current character is end variable character
+			if (pattern.startsWith(variableEndSequence, index)) {
+				break;
+			}
+
+			// If current character is property separator character
+			if (pattern.startsWith(variableSeparatorSequence, index)) {
+
+				index += variableSeparatorSequence.length();
+
+				continue;
+			}
+
+			int propertyBeginIndex = index;
+
+			String name = parsePropertyName();
+
+			// Property without a name
+			if (name == null) {
+
+				CompoundEntry value = parseIdShorthand();
+
+				// Empty properties are ignored
+				if (value == null) {
+					continue;
+				}
+
+				if (idData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNameIdSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				idData = Pair.of(variablePropertyNameIdSequence, value);
+
+				continue;
+			}
+
+			if (index >= pattern.length() || pattern.startsWith(variableSeparatorSequence, index)
+					|| pattern.startsWith(variableEndSequence, index)) {
+				throw new PatternSyntaxException("missing variable property value", pattern, index);
+			}
+
+			if (name.equals(variablePropertyNameIdSequence)) {
+
+				if (idData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNameIdSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				idData = Pair.of(name, parseCompound(true));
+
+			} else if (name.equals(variablePropertyNamePaddingSequence)) {
+
+				if (paddingData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNamePaddingSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				paddingData = Pair.of(name, parseCompound(true));
+
+			} else if (name.equals(variablePropertyNamePrefixSequence)) {
+
+				if (prefixData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNamePrefixSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				prefixData = Pair.of(name, parseCompound(true));
+
+			} else if (name.equals(variablePropertyNameSuffixSequence)) {
+
+				if (suffixData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNameSuffixSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				suffixData = Pair.of(name, parseCompound(true));
+
+			} else if (name.equals(variablePropertyNameTruncateSequence)) {
+
+				if (truncateData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNameTruncateSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				truncateData = Pair.of(name, parseCompound(true));
+
+			} else if (name.equals(variablePropertyNameSeparatorSequence)) {
+
+				if (separatorData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNameSeparatorSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				separatorData = Pair.of(name, parseCompound(true));
+
+			} else if (name.equals(variablePropertyNamePatternSequence)) {
+
+				if (patternData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNamePatternSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				int valueBeginIndex = index;
+
+				CompoundEntry value = parseCompound(true);
+
+				// Raw value of the pattern is passed to the formatters
+				patternData = Pair.of(pattern.substring(valueBeginIndex, index), value);
+
+			} else if (name.equals(variablePropertyNameDefaultSequence)) {
+
+				if (defaultData != null) {
+					throw new PatternSyntaxException(
+							String.format("%s property value already defined", variablePropertyNameDefaultSequence),
+							pattern, propertyBeginIndex);
+				}
+
+				defaultData = Pair.of(name, parseCompound(true));
+
+			} else {
+				throw new PatternSyntaxException(String.format("unsupported variable property \"%s\"", name), pattern,
+						propertyBeginIndex);
+			}
+		}
+
+		int endIndex = index;
+
+		index += variableEndSequence.length();
+
+		if (idData == null) {
+			throw new PatternSyntaxException(
+					String.format("missing mandatory variable property \"%s\"", variablePropertyNameIdSequence),
+					pattern, endIndex);
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug("parsed variable -> " + pattern.substring(beginIndex, endIndex));
+		}
+
+		return new VariableEntry(pattern, beginIndex, endIndex, configuration, idData, paddingData, prefixData,
+				suffixData, truncateData, separatorData, patternData, defaultData);
+	}
+
+	/**
+	 * Parses name of the variable property starting at the current position. The
+	 * property value separator is only expected before any nested variable, so
+	 * the property is considered to be without a name if none is met by then.
+	 *
+	 * @return the unescaped name of the property or null if property doesn't have
+	 *         a name, in the latter case current position stays unchanged
+	 */
+	private String parsePropertyName() {
+
+		int beginIndex = index;
+
+		int i = beginIndex;
+
+		while (i < pattern.length()) {
+
+			// If current character is property value separator character
+			if (pattern.startsWith(variablePropertySeparatorSequence, i)) {
+
+				if (i == beginIndex) {
+					throw new PatternSyntaxException("missing variable property name", pattern, beginIndex);
+				}
+
+				trackPropertySeparator(i);
+
+				index = i + variablePropertySeparatorSequence.length();
+
+				return TextUtil.unescape(pattern.substring(beginIndex, i), escapeSequence);
+			}
+
+			if (pattern.startsWith(escapeSequence, i)) {
+
+				i = skipEscape(i);
+
+			} else if (pattern.startsWith(variableStartSequence, i) || pattern.startsWith(variableEndSequence, i)
+					|| pattern.startsWith(variableSeparatorSequence, i)) {
+
+				break;
+
+			} else {
+
+				i++;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Parses value of the variable property without a name, which is considered
+	 * to be an {@code id} property. Property value separator met within the nested
+	 * variables makes such a property invalid.
+	 *
+	 * @return the parsed value of the property or null if the property is empty
+	 */
+	private CompoundEntry parseIdShorthand() {
+
+		int beginIndex = index;
+
+		int trackedPropertySeparatorIndex = propertySeparatorIndex;
+
+		propertySeparatorIndex = TRACKED;
+
+		CompoundEntry value = parseCompound(true);
+
+		int separatorIndex = propertySeparatorIndex;
+
+		propertySeparatorIndex = trackedPropertySeparatorIndex;
+
+		trackPropertySeparator(separatorIndex);
+
+		if (index == beginIndex) {
+			return null;
+		}
+
+		if (separatorIndex >= 0) {
+			throw new PatternSyntaxException(
+					String.format("unsupported variable property \"%s\"",
+							TextUtil.unescape(pattern.substring(beginIndex, separatorIndex), escapeSequence)),
+					pattern, beginIndex);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Checks that variable starting at indicated {@code beginIndex} is closed.
+	 * Only used for error reporting, so performance is not a concern here.
+	 *
+	 * @param beginIndex of the variable content
+	 * @throws PatternSyntaxException if variable or escape sequence within is not
+	 *                                closed
+	 */
+	private void checkVariableEnd(int beginIndex) {
+
+		int depth = 1;
+		int i = beginIndex;
+
+		while (i < pattern.length()) {
+
+			if (pattern.startsWith(escapeSequence, i)) {
+
+				i = skipEscape(i);
+
+			} else if (pattern.startsWith(variableStartSequence, i)) {
+
+				depth++;
+
+				i += variableStartSequence.length();
+
+			} else if (pattern.startsWith(variableEndSequence, i)) {
+
+				if (--depth == 0) {
+					return;
+				}
+
+				i += variableEndSequence.length();
+
+			} else {
+
+				i++;
+			}
+		}
+
+		throw new PatternSyntaxException("missing end of variable", pattern, beginIndex);
+	}
+
+	/**
+	 * Skips escape sequence starting at indicated {@code beginIndex}.
+	 *
+	 * @param beginIndex of the escape sequence
+	 * @return the index right after the closing escape sequence
+	 */
+	private int skipEscape(int beginIndex) {
+
+		int i = beginIndex + escapeSequence.length();
+
+		while (i < pattern.length()) {
+
+			if (pattern.startsWith(escapeSequence, i)) {
+				return i + escapeSequence.length();
+			}
+
+			i++;
+		}
+
+		throw new PatternSyntaxException("missing end of escape sequence", pattern, beginIndex);
+	}
+
+	private void trackPropertySeparator(int index) {
+
+		if (propertySeparatorIndex == TRACKED && index >= 0) {
+			propertySeparatorIndex = index;
+		}
+	}
+}
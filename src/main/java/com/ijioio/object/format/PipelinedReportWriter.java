@@ -0,0 +1,426 @@
+package com.ijioio.object.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ijioio.object.format.exception.FormatException;
+import com.ijioio.object.format.sink.Utf8Sink;
+
+/**
+ * Report writer formatting the records and writing them to the file on
+ * separate threads. Records are split into chunks formatted concurrently by a
+ * {@link ForkJoinPool} of indicated {@code parallelism}, each chunk is encoded
+ * to UTF-8 right into a direct buffer taken from a bounded pool, see
+ * {@link Utf8Sink}. Once a chunk is formatted and the size of all the previous
+ * chunks is known, the buffer is written with {@link AsynchronousFileChannel}
+ * at its position in the file and returned to the pool when the write
+ * completes, so records appear in the file in the original order. Writes are
+ * performed by a dedicated I/O thread, so they never occupy the formatting
+ * threads.
+ *
+ * <p>
+ * No new chunk is formatted until a buffer is available, so the memory used
+ * does not depend on the size of the report and formatting slows down to the
+ * pace of the disk. Records are separated with the
+ * {@link Configuration#getRecordSeparatorSequence() record separator} of the
+ * formatter.
+ *
+ * <pre>
+ * try (PipelinedReportWriter writer = PipelinedReportWriter.open(formatter, path, locale, 4)) {
+ * 	writer.writeAll(bookings);
+ * }
+ * </pre>
+ *
+ * <p>
+ * Writer is not thread safe.
+ */
+public class PipelinedReportWriter implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(PipelinedReportWriter.class);
+
+	private static final int CHUNK_SIZE = 1024;
+
+	private static final int BUFFER_SIZE_DEFAULT_VALUE = 256 * 1024;
+
+	private final ObjectFormatter formatter;
+
+	private final Configuration configuration;
+
+	private final Locale locale;
+
+	private final ForkJoinPool pool;
+
+	private final ExecutorService io;
+
+	private final AsynchronousFileChannel channel;
+
+	private final BlockingQueue<ByteBuffer> buffers;
+
+	private final WriteHandler writeHandler = new WriteHandler();
+
+	private long size;
+
+	private boolean first = true;
+
+	private boolean closed;
+
+	public static PipelinedReportWriter open(ObjectFormatter formatter, Path path, Locale locale, int parallelism)
+			throws IOException {
+		return open(formatter, path, locale, parallelism, BUFFER_SIZE_DEFAULT_VALUE);
+	}
+
+	/**
+	 * Opens writer for indicated file. Existing file is truncated. Pool of
+	 * {@code parallelism * 2} direct buffers of indicated size is allocated, a
+	 * buffer grows if the chunk doesn't fit it.
+	 *
+	 * @param formatter   to format records with, not null
+	 * @param path        of the file, not null
+	 * @param locale      to use, not null
+	 * @param parallelism number of threads to use, positive
+	 * @param bufferSize  size of the buffers in bytes, at least 4
+	 * @return the writer, not null
+	 * @throws IOException if file can not be opened
+	 */
+	public static PipelinedReportWriter open(ObjectFormatter formatter, Path path, Locale locale, int parallelism,
+			int bufferSize) throws IOException {
+
+		Objects.requireNonNull(formatter, "formatter must not be null");
+		Objects.requireNonNull(path, "path must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(String.format("parallelism %s must be positive", parallelism));
+		}
+
+		if (bufferSize < 4) {
+			throw new IllegalArgumentException(String.format("buffer size %s must be at least 4", bufferSize));
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+		ExecutorService io = Executors.newSingleThreadExecutor(runnable -> {
+
+			Thread thread = new Thread(runnable, "pipelined-report-writer-io");
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		try {
+
+			AsynchronousFileChannel channel = AsynchronousFileChannel.open(path, EnumSet.of(StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), io);
+
+			return new PipelinedReportWriter(formatter, locale, pool, io, channel, parallelism * 2, bufferSize);
+
+		} catch (IOException | RuntimeException e) {
+
+			pool.shutdownNow();
+			io.shutdownNow();
+
+			throw e;
+		}
+	}
+
+	private PipelinedReportWriter(ObjectFormatter formatter, Locale locale, ForkJoinPool pool, ExecutorService io,
+			AsynchronousFileChannel channel, int bufferCount, int bufferSize) {
+
+		this.formatter = formatter;
+		this.configuration = formatter.getConfiguration();
+		this.locale = locale;
+		this.pool = pool;
+		this.io = io;
+		this.channel = channel;
+		this.buffers = new ArrayBlockingQueue<>(bufferCount);
+
+		for (int i = 0; i < bufferCount; i++) {
+			buffers.add(ByteBuffer.allocateDirect(bufferSize));
+		}
+	}
+
+	public ObjectFormatter getFormatter() {
+		return formatter;
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * Returns number of bytes written so far.
+	 *
+	 * @return the size of the report
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Formats a batch of objects and writes them as the next records of the
+	 * report. Returns once all the records are written to the file.
+	 *
+	 * @param objects to format, not null
+	 */
+	public void writeAll(Iterable<?> objects) {
+
+		Objects.requireNonNull(objects, "objects must not be null");
+
+		if (closed) {
+			throw new IllegalStateException("writer is closed");
+		}
+
+		CompletableFuture<Long> position = CompletableFuture.completedFuture(size);
+
+		Deque<CompletableFuture<Void>> writes = new ArrayDeque<>();
+
+		try {
+
+			Iterator<?> iterator = objects.iterator();
+
+			while (iterator.hasNext() && !position.isCompletedExceptionally()
+					&& (writes.isEmpty() || !writes.peek().isCompletedExceptionally())) {
+
+				List<Object> chunk = new ArrayList<>(CHUNK_SIZE);
+
+				while (iterator.hasNext() && chunk.size() < CHUNK_SIZE) {
+					chunk.add(iterator.next());
+				}
+
+				// Blocks until one of the previous chunks is written
+				ByteBuffer buffer = buffers.take();
+
+				boolean separated = !first;
+
+				first = false;
+
+				CompletableFuture<ByteBuffer> formatted = CompletableFuture
+						.supplyAsync(() -> format(chunk, separated, buffer), pool);
+
+				CompletableFuture<Void> written = new CompletableFuture<>();
+
+				position = schedule(position, formatted, written);
+
+				writes.add(written);
+
+				while (!writes.isEmpty() && writes.peek().isDone() && !writes.peek().isCompletedExceptionally()) {
+					writes.poll();
+				}
+			}
+
+			// Waits for all the chunks in flight, even if one of them failed, so the
+			// buffers are back in the pool
+			position.handle((value, e) -> value).get();
+
+			for (CompletableFuture<Void> write : writes) {
+				write.handle((value, e) -> value).get();
+			}
+
+			for (CompletableFuture<Void> write : writes) {
+				write.join();
+			}
+
+			size = position.join();
+
+		} catch (Exception e) {
+
+			Throwable cause = (e instanceof CompletionException || e instanceof ExecutionException)
+					&& e.getCause() != null ? e.getCause() : e;
+
+			if (logger.isErrorEnabled()) {
+				logger.error(cause.getMessage(), cause);
+			}
+
+			if (cause instanceof FormatException) {
+				throw (FormatException) cause;
+			}
+
+			throw new FormatException(cause.getMessage(), cause);
+		}
+	}
+
+	private ByteBuffer format(List<Object> chunk, boolean separated, ByteBuffer buffer) {
+
+		ChunkSink sink = new ChunkSink(buffer);
+
+		try {
+
+			String recordSeparator = configuration.getRecordSeparatorSequence();
+
+			for (int i = 0; i < chunk.size(); i++) {
+
+				if (separated || i > 0) {
+					sink.append(recordSeparator);
+				}
+
+				formatter.formatTo(chunk.get(i), locale, sink);
+			}
+
+			ByteBuffer result = sink.getBuffer();
+
+			result.flip();
+
+			return result;
+
+		} catch (Exception e) {
+
+			release(sink.getBuffer());
+
+			throw e instanceof FormatException ? (FormatException) e : new FormatException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Writes the chunk once it is formatted and its position is known. Returns
+	 * the position following the chunk.
+	 */
+	private CompletableFuture<Long> schedule(CompletableFuture<Long> position, CompletableFuture<ByteBuffer> formatted,
+			CompletableFuture<Void> written) {
+
+		CompletableFuture<Long> next = new CompletableFuture<>();
+
+		position.whenComplete((offset, positionException) -> formatted.whenComplete((buffer, formatException) -> {
+
+			if (positionException != null || formatException != null) {
+
+				if (buffer != null) {
+					release(buffer);
+				}
+
+				Throwable e = positionException != null ? positionException : formatException;
+
+				written.completeExceptionally(e);
+				next.completeExceptionally(e);
+
+				return;
+			}
+
+			next.complete(offset + buffer.remaining());
+
+			channel.write(buffer, offset, new Write(buffer, offset, written), writeHandler);
+		}));
+
+		return next;
+	}
+
+	private void release(ByteBuffer buffer) {
+
+		buffer.clear();
+
+		buffers.offer(buffer);
+	}
+
+	/**
+	 * Closes the file and shuts down the threads.
+	 *
+	 * @throws IOException if file can not be closed
+	 */
+	@Override
+	public void close() throws IOException {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		try {
+			channel.close();
+		} finally {
+			pool.shutdown();
+			io.shutdown();
+		}
+	}
+
+	/**
+	 * Sink growing the buffer if the chunk doesn't fit it. Grown buffer replaces
+	 * the original one in the pool.
+	 */
+	private static class ChunkSink extends Utf8Sink {
+
+		private ChunkSink(ByteBuffer buffer) {
+			super(buffer);
+		}
+
+		@Override
+		protected void overflow(int required) {
+
+			ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + required));
+
+			buffer.flip();
+
+			grown.put(buffer);
+
+			buffer = grown;
+		}
+	}
+
+	private static class Write {
+
+		private final ByteBuffer buffer;
+
+		private final CompletableFuture<Void> written;
+
+		private long position;
+
+		private Write(ByteBuffer buffer, long position, CompletableFuture<Void> written) {
+
+			this.buffer = buffer;
+			this.position = position;
+			this.written = written;
+		}
+	}
+
+	private class WriteHandler implements CompletionHandler<Integer, Write> {
+
+		@Override
+		public void completed(Integer result, Write write) {
+
+			write.position += result;
+
+			if (write.buffer.hasRemaining()) {
+
+				channel.write(write.buffer, write.position, write, this);
+
+				return;
+			}
+
+			release(write.buffer);
+
+			write.written.complete(null);
+		}
+
+		@Override
+		public void failed(Throwable e, Write write) {
+
+			release(write.buffer);
+
+			write.written.completeExceptionally(e);
+		}
+	}
+}
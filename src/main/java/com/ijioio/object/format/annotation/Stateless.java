@@ -0,0 +1,19 @@
+package com.ijioio.object.format.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks converter or formatter implementation as stateless, i.e. safe to be
+ * shared between threads and reentrant calls. Stateless implementations
+ * referenced by {@link FormatType} or {@link FormatElement} are instantiated
+ * once and shared, while implementations without this marker are instantiated
+ * for every use.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Stateless {
+	// Empty
+}
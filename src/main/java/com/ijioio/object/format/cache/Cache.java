@@ -0,0 +1,358 @@
+package com.ijioio.object.format.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Concurrent cache with bounded size. When the size of the cache exceeds the
+ * maximum size, the least recently used entries are evicted. The cache counts
+ * hits, misses and evictions.
+ * 
+ * <p>
+ * Hits are lock free. Access order is updated only if the lock is not held by
+ * another thread at the moment, so under contention some hits are not
+ * recorded and eviction order is close to, but not strictly, least recently
+ * used. Misses, evictions and removals are performed under the lock.
+ * 
+ * <p>
+ * Values can optionally be held by weak or soft references, so they can be
+ * reclaimed by the garbage collector once they are not used outside of the
+ * cache. Reclaimed entries are removed from the cache and counted as evictions.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class Cache<K, V> {
+
+	private static final int MAXIMUM_SIZE_DEFAULT_VALUE = 1024;
+
+	public static <K, V> CacheBuilder<K, V> builder() {
+		return new CacheBuilder<>();
+	}
+
+	/**
+	 * Strength of the references the values are held by.
+	 */
+	public enum Strength {
+
+		STRONG, SOFT, WEAK;
+	}
+
+	private final int maximumSize;
+
+	private final Strength valueStrength;
+
+	private final ConcurrentMap<K, ValueReference<K, V>> values = new ConcurrentHashMap<>();
+
+	/**
+	 * Keys in access order, the least recently used first. Guarded by the lock.
+	 */
+	private final Map<K, Boolean> keys = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Lock lock = new ReentrantLock();
+
+	private final ReferenceQueue<V> referenceQueue = new ReferenceQueue<>();
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private Cache(CacheBuilder<K, V> builder) {
+
+		if (builder.maximumSize != null && builder.maximumSize.intValue() <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive");
+		}
+
+		this.maximumSize = builder.maximumSize != null ? builder.maximumSize.intValue() : MAXIMUM_SIZE_DEFAULT_VALUE;
+		this.valueStrength = builder.valueStrength != null ? builder.valueStrength : Strength.STRONG;
+	}
+
+	/**
+	 * Returns value associated with indicated {@code key}. In case of there is no
+	 * such value it is computed using indicated {@code loader} and added to the
+	 * cache.
+	 *
+	 * @param key    of the value, not null
+	 * @param loader to compute value with, not null
+	 * @return value associated with the key
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+
+		Objects.requireNonNull(key, "key must not be null");
+		Objects.requireNonNull(loader, "loader must not be null");
+
+		ValueReference<K, V> reference = values.get(key);
+
+		V value = reference != null ? reference.getValue() : null;
+
+		if (value != null) {
+
+			hitCount.increment();
+
+			// Access is not recorded if another thread holds the lock, so hits
+			// never block
+			if (lock.tryLock()) {
+
+				try {
+					keys.get(key);
+				} finally {
+					lock.unlock();
+				}
+			}
+
+			return value;
+		}
+
+		missCount.increment();
+
+		value = loader.apply(key);
+
+		lock.lock();
+
+		try {
+
+			purge();
+
+			reference = values.get(key);
+
+			V previousValue = reference != null ? reference.getValue() : null;
+
+			// Value loaded concurrently by another thread wins
+			if (previousValue != null) {
+
+				keys.get(key);
+
+				return previousValue;
+			}
+
+			values.put(key, reference(key, value));
+			keys.put(key, Boolean.TRUE);
+
+			evict();
+
+			return value;
+
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private ValueReference<K, V> reference(K key, V value) {
+
+		switch (valueStrength) {
+		case SOFT:
+			return new SoftValueReference<>(key, value, referenceQueue);
+		case WEAK:
+			return new WeakValueReference<>(key, value, referenceQueue);
+		default:
+			return new StrongValueReference<>(value);
+		}
+	}
+
+	/**
+	 * Removes the entries which values are reclaimed by the garbage collector.
+	 * Called under the lock.
+	 */
+	@SuppressWarnings("unchecked")
+	private void purge() {
+
+		Reference<? extends V> reference = null;
+
+		while ((reference = referenceQueue.poll()) != null) {
+
+			ValueReference<K, V> valueReference = (ValueReference<K, V>) reference;
+
+			if (values.remove(valueReference.getKey(), valueReference)) {
+
+				keys.remove(valueReference.getKey());
+
+				evictionCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Evicts the least recently used entries while the cache is over the maximum
+	 * size. Called under the lock.
+	 */
+	private void evict() {
+
+		Iterator<K> iterator = keys.keySet().iterator();
+
+		while (keys.size() > maximumSize && iterator.hasNext()) {
+
+			K key = iterator.next();
+
+			iterator.remove();
+
+			values.remove(key);
+
+			evictionCount.increment();
+		}
+	}
+
+	/**
+	 * Removes all the values from the cache. Statistics are kept.
+	 */
+	public void clear() {
+
+		lock.lock();
+
+		try {
+
+			keys.clear();
+			values.clear();
+
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public Strength getValueStrength() {
+		return valueStrength;
+	}
+
+	public int size() {
+		return values.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "Cache [maximumSize=" + maximumSize + ", valueStrength=" + valueStrength + ", size=" + size()
+				+ ", hitCount=" + getHitCount() + ", missCount=" + getMissCount() + ", evictionCount="
+				+ getEvictionCount() + "]";
+	}
+
+	private interface ValueReference<K, V> {
+
+		public K getKey();
+
+		public V getValue();
+	}
+
+	private static final class StrongValueReference<K, V> implements ValueReference<K, V> {
+
+		private final V value;
+
+		private StrongValueReference(V value) {
+			this.value = value;
+		}
+
+		@Override
+		public K getKey() {
+			return null;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+	}
+
+	private static final class SoftValueReference<K, V> extends SoftReference<V> implements ValueReference<K, V> {
+
+		private final K key;
+
+		private SoftValueReference(K key, V value, ReferenceQueue<V> queue) {
+
+			super(value, queue);
+
+			this.key = key;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return get();
+		}
+	}
+
+	private static final class WeakValueReference<K, V> extends WeakReference<V> implements ValueReference<K, V> {
+
+		private final K key;
+
+		private WeakValueReference(K key, V value, ReferenceQueue<V> queue) {
+
+			super(value, queue);
+
+			this.key = key;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return get();
+		}
+	}
+
+	public static class CacheBuilder<K, V> {
+
+		private Integer maximumSize;
+
+		private Strength valueStrength;
+
+		private CacheBuilder() {
+			// Empty
+		}
+
+		public CacheBuilder<K, V> maximumSize(int maximumSize) {
+
+			this.maximumSize = Integer.valueOf(maximumSize);
+			return this;
+		}
+
+		public CacheBuilder<K, V> weakValues() {
+
+			this.valueStrength = Strength.WEAK;
+			return this;
+		}
+
+		public CacheBuilder<K, V> softValues() {
+
+			this.valueStrength = Strength.SOFT;
+			return this;
+		}
+
+		public Cache<K, V> build() {
+			return new Cache<>(this);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package com.ijioio.object.format.cache;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import com.ijioio.object.format.util.TupleUtil.Pair;
+
+/**
+ * Cache of the standard format instances keyed by pattern and locale. Immutable
+ * {@link DateTimeFormatter} instances are shared between threads, while
+ * {@link DecimalFormat} and {@link SimpleDateFormat} instances, that are not
+ * thread safe, are cached per thread. Format instances returned must not be
+ * modified.
+ */
+public class FormatCache {
+
+	private static final int DATE_TIME_FORMATTER_MAXIMUM_SIZE = 512;
+
+	private static final int DECIMAL_FORMAT_MAXIMUM_SIZE = 64;
+
+	private static final int SIMPLE_DATE_FORMAT_MAXIMUM_SIZE = 64;
+
+	public static FormatCache get() {
+		return cache;
+	}
+
+	private static final FormatCache cache = new FormatCache();
+
+	private final Cache<Pair<String, Locale>, DateTimeFormatter> dateTimeFormatters = Cache
+			.<Pair<String, Locale>, DateTimeFormatter>builder().maximumSize(DATE_TIME_FORMATTER_MAXIMUM_SIZE).build();
+
+	private final ThreadLocalCache<Pair<String, Locale>, DecimalFormat> decimalFormats = ThreadLocalCache
+			.<Pair<String, Locale>, DecimalFormat>builder().maximumSize(DECIMAL_FORMAT_MAXIMUM_SIZE).build();
+
+	private final ThreadLocalCache<Pair<String, Locale>, SimpleDateFormat> simpleDateFormats = ThreadLocalCache
+			.<Pair<String, Locale>, SimpleDateFormat>builder().maximumSize(SIMPLE_DATE_FORMAT_MAXIMUM_SIZE).build();
+
+	private FormatCache() {
+		// Empty
+	}
+
+	/**
+	 * Returns date time formatter for indicated {@code pattern} and
+	 * {@code locale}. Formatter returned can be shared between threads.
+	 *
+	 * @param pattern to use, not null
+	 * @param locale  to use, not null
+	 * @return the formatter, not null
+	 */
+	public DateTimeFormatter getDateTimeFormatter(String pattern, Locale locale) {
+
+		Objects.requireNonNull(pattern, "pattern must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+
+		return dateTimeFormatters.get(Pair.of(pattern, locale),
+				key -> DateTimeFormatter.ofPattern(key.getFirst(), key.getSecond()));
+	}
+
+	/**
+	 * Returns decimal format for indicated {@code pattern} and {@code locale}.
+	 * Format returned belongs to the current thread and must not be shared.
+	 *
+	 * @param pattern to use, not null
+	 * @param locale  to use, not null
+	 * @return the format, not null
+	 */
+	public DecimalFormat getDecimalFormat(String pattern, Locale locale) {
+
+		Objects.requireNonNull(pattern, "pattern must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+
+		return decimalFormats.get(Pair.of(pattern, locale), key -> {
+
+			DecimalFormat format = (DecimalFormat) NumberFormat.getNumberInstance(key.getSecond());
+
+			format.applyPattern(key.getFirst());
+
+			return format;
+		});
+	}
+
+	/**
+	 * Returns simple date format for indicated {@code pattern} and
+	 * {@code locale}. Format returned belongs to the current thread and must not
+	 * be shared. Format uses the default time zone at the moment of the call, as
+	 * the one created anew would.
+	 *
+	 * @param pattern to use, not null
+	 * @param locale  to use, not null
+	 * @return the format, not null
+	 */
+	public SimpleDateFormat getSimpleDateFormat(String pattern, Locale locale) {
+
+		Objects.requireNonNull(pattern, "pattern must not be null");
+		Objects.requireNonNull(locale, "locale must not be null");
+
+		SimpleDateFormat format = simpleDateFormats.get(Pair.of(pattern, locale),
+				key -> new SimpleDateFormat(key.getFirst(), key.getSecond()));
+
+		// Default time zone may have changed since the format was created
+		format.setTimeZone(TimeZone.getDefault());
+
+		return format;
+	}
+
+	public Cache<Pair<String, Locale>, DateTimeFormatter> getDateTimeFormatterCache() {
+		return dateTimeFormatters;
+	}
+
+	public ThreadLocalCache<Pair<String, Locale>, DecimalFormat> getDecimalFormatCache() {
+		return decimalFormats;
+	}
+
+	public ThreadLocalCache<Pair<String, Locale>, SimpleDateFormat> getSimpleDateFormatCache() {
+		return simpleDateFormats;
+	}
+}
@@ -0,0 +1,68 @@
+package com.ijioio.object.format.cache;
+
+import java.util.Objects;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.util.TupleUtil.Pair;
+
+/**
+ * Cache of the object formatters keyed by pattern and configuration. Used by
+ * {@link ObjectFormatter#cached(String, Configuration)} and by the formatters
+ * that need to parse the patterns of the nested objects, so each pattern is
+ * parsed once instead of once per formatted value. The cache is bounded and
+ * holds the formatters by soft references, so pattern churn can not exhaust
+ * the memory.
+ */
+public class PatternCache {
+
+	private static final int MAXIMUM_SIZE = 512;
+
+	public static PatternCache get() {
+		return cache;
+	}
+
+	private static final PatternCache cache = new PatternCache();
+
+	private final Cache<Pair<String, Configuration>, ObjectFormatter> formatters = Cache
+			.<Pair<String, Configuration>, ObjectFormatter>builder().maximumSize(MAXIMUM_SIZE).softValues().build();
+
+	private PatternCache() {
+		// Empty
+	}
+
+	/**
+	 * Returns object formatter for indicated {@code pattern} and
+	 * {@code configuration}.
+	 *
+	 * @param pattern       to use, not null
+	 * @param configuration to use, not null
+	 * @return the formatter based on the pattern, not null
+	 * @throws com.ijioio.object.format.PatternSyntaxException if the pattern is
+	 *                                                         invalid
+	 */
+	public ObjectFormatter getFormatter(String pattern, Configuration configuration) {
+
+		Objects.requireNonNull(pattern, "pattern must not be null");
+		Objects.requireNonNull(configuration, "configuration must not be null");
+
+		return formatters.get(Pair.of(pattern, configuration),
+				key -> ObjectFormatter.of(key.getFirst(), key.getSecond()));
+	}
+
+	public Cache<Pair<String, Configuration>, ObjectFormatter> getCache() {
+		return formatters;
+	}
+
+	public long getHitCount() {
+		return formatters.getHitCount();
+	}
+
+	public long getMissCount() {
+		return formatters.getMissCount();
+	}
+
+	public long getEvictionCount() {
+		return formatters.getEvictionCount();
+	}
+}
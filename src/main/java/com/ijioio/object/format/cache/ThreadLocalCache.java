@@ -0,0 +1,137 @@
+package com.ijioio.object.format.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Cache with bounded size that keeps a separate set of values for each thread.
+ * Intended for the values that are not thread safe, like {@link java.text.Format}
+ * instances, so they can be reused without synchronization. When the size of
+ * the cache of a thread exceeds the maximum size, the least recently used entry
+ * is evicted. Hits, misses and evictions are counted over all the threads.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class ThreadLocalCache<K, V> {
+
+	private static final int MAXIMUM_SIZE_DEFAULT_VALUE = 64;
+
+	public static <K, V> ThreadLocalCacheBuilder<K, V> builder() {
+		return new ThreadLocalCacheBuilder<>();
+	}
+
+	private final int maximumSize;
+
+	private final ThreadLocal<Map<K, V>> values;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private ThreadLocalCache(ThreadLocalCacheBuilder<K, V> builder) {
+
+		if (builder.maximumSize != null && builder.maximumSize.intValue() <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive");
+		}
+
+		this.maximumSize = builder.maximumSize != null ? builder.maximumSize.intValue() : MAXIMUM_SIZE_DEFAULT_VALUE;
+		this.values = ThreadLocal.withInitial(() -> new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 3815465096386545329L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+
+				if (size() > maximumSize) {
+
+					evictionCount.increment();
+
+					return true;
+				}
+
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Returns value associated with indicated {@code key} for the current thread.
+	 * In case of there is no such value it is computed using indicated
+	 * {@code loader} and added to the cache of the current thread.
+	 *
+	 * @param key    of the value, not null
+	 * @param loader to compute value with, not null
+	 * @return value associated with the key
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+
+		Objects.requireNonNull(key, "key must not be null");
+		Objects.requireNonNull(loader, "loader must not be null");
+
+		Map<K, V> values = this.values.get();
+
+		V value = values.get(key);
+
+		if (value != null) {
+
+			hitCount.increment();
+
+			return value;
+		}
+
+		missCount.increment();
+
+		value = loader.apply(key);
+
+		values.put(key, value);
+
+		return value;
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "ThreadLocalCache [maximumSize=" + maximumSize + ", hitCount=" + getHitCount() + ", missCount="
+				+ getMissCount() + ", evictionCount=" + getEvictionCount() + "]";
+	}
+
+	public static class ThreadLocalCacheBuilder<K, V> {
+
+		private Integer maximumSize;
+
+		private ThreadLocalCacheBuilder() {
+			// Empty
+		}
+
+		public ThreadLocalCacheBuilder<K, V> maximumSize(int maximumSize) {
+
+			this.maximumSize = Integer.valueOf(maximumSize);
+			return this;
+		}
+
+		public ThreadLocalCache<K, V> build() {
+			return new ThreadLocalCache<>(this);
+		}
+	}
+}
@@ -1,8 +1,21 @@
 package com.ijioio.object.format.converter;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
+/**
+ * Registry of the converters by type. Lookups are lock free and read an
+ * immutable snapshot of the registrations. Each registration publishes a new
+ * snapshot and increments the {@link #getVersion() version}, so caches derived
+ * from the registry can detect they are stale by comparing versions.
+ * 
+ * <p>
+ * Besides the global registry, immutable {@link #scoped(Map) scoped}
+ * registries layered over it can be created, e.g. to be carried by a
+ * {@link com.ijioio.object.format.Configuration}.
+ */
 public class ConverterRegistry {
 
 	public static ConverterRegistry get() {
@@ -11,17 +24,69 @@ public class ConverterRegistry {
 
 	private static final ConverterRegistry registry = new ConverterRegistry();
 
-	private final Map<Class<?>, Converter<?, ?>> converters = new HashMap<>();
+	private final ConverterRegistry parent;
+
+	private volatile Map<Class<?>, Converter<?, ?>> converters = Collections.emptyMap();
+
+	private volatile long version;
 
 	private ConverterRegistry() {
-		// Empty
+		this.parent = null;
+	}
+
+	private ConverterRegistry(ConverterRegistry parent, Map<Class<?>, Converter<?, ?>> converters) {
+
+		this.parent = parent;
+		this.converters = new HashMap<>(converters);
 	}
 
-	public <V> void register(Class<V> type, Converter<V, ?> converter) {
+	/**
+	 * Creates immutable registry layered over this one. Converters from indicated
+	 * {@code converters} take precedence, the rest of the lookups fall through to
+	 * this registry.
+	 * 
+	 * @param converters to register in the scoped registry, not null
+	 * @return the scoped registry, not null
+	 */
+	public ConverterRegistry scoped(Map<Class<?>, Converter<?, ?>> converters) {
+
+		Objects.requireNonNull(converters, "converters must not be null");
+
+		return new ConverterRegistry(this, converters);
+	}
+
+	public synchronized <V> void register(Class<V> type, Converter<V, ?> converter) {
+
+		if (parent != null) {
+			throw new UnsupportedOperationException("scoped registry is immutable");
+		}
+
+		Map<Class<?>, Converter<?, ?>> converters = new HashMap<>(this.converters);
+
 		converters.put(type, converter);
+
+		this.converters = converters;
+
+		version++;
 	}
 
 	public Converter<?, ?> getConverter(Class<?> type) {
-		return converters.get(type);
+
+		Converter<?, ?> converter = converters.get(type);
+
+		if (converter == null && parent != null) {
+			return parent.getConverter(type);
+		}
+
+		return converter;
+	}
+
+	/**
+	 * Returns version of the registry incremented on each registration.
+	 * 
+	 * @return version of the registry
+	 */
+	public long getVersion() {
+		return parent != null ? parent.getVersion() : version;
 	}
 }
@@ -1,11 +1,12 @@
 package com.ijioio.object.format.formatter;
 
 import java.util.Locale;
-import java.util.Optional;
 
 import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.annotation.Stateless;
 import com.ijioio.object.format.object.ObjectHolder;
 
+@Stateless
 public class BooleanFormatter implements Formatter<Boolean> {
 
 	@Override
@@ -14,6 +15,6 @@ public class BooleanFormatter implements Formatter<Boolean> {
 
 		Boolean value = objectHolder.getObject();
 
-		return Optional.ofNullable(value).map(item -> String.valueOf(item)).orElse(null);
+		return value != null ? String.valueOf(value) : null;
 	}
 }
@@ -7,9 +7,12 @@ import java.util.stream.Collectors;
 
 import com.ijioio.object.format.Configuration;
 import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.annotation.Stateless;
+import com.ijioio.object.format.cache.PatternCache;
 import com.ijioio.object.format.object.ObjectHolder;
 import com.ijioio.object.format.util.PatternUtil.Pattern;
 
+@Stateless
 public class CollectionFormatter implements Formatter<Collection<?>> {
 
 	@Override
@@ -20,9 +23,10 @@ public class CollectionFormatter implements Formatter<Collection<?>> {
 
 		return Optional.ofNullable(values).map(items -> {
 
-			ObjectFormatter format = ObjectFormatter.of(pattern != null ? pattern : Pattern.self(configuration));
+			ObjectFormatter format = PatternCache.get()
+					.getFormatter(pattern != null ? pattern : Pattern.self(configuration), configuration);
 
-			return items.stream().map(item -> ObjectHolder.of(item, objectHolder))
+			return items.stream().map(item -> ObjectHolder.of(item, objectHolder, configuration))
 					.map(item -> format.format(item, locale))
 					.collect(Collectors.joining(separator != null ? separator : configuration.getSeparatorSequence()));
 
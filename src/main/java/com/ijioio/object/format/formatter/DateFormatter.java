@@ -1,13 +1,15 @@
 package com.ijioio.object.format.formatter;
 
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Optional;
 
 import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.annotation.Stateless;
+import com.ijioio.object.format.cache.FormatCache;
 import com.ijioio.object.format.object.ObjectHolder;
 
+@Stateless
 public class DateFormatter implements Formatter<Date> {
 
 	@Override
@@ -17,7 +19,8 @@ public class DateFormatter implements Formatter<Date> {
 		Date value = objectHolder.getObject();
 
 		return Optional.ofNullable(value).map(
-				item -> pattern != null ? new SimpleDateFormat(pattern, locale).format(item) : String.valueOf(item))
+				item -> pattern != null ? FormatCache.get().getSimpleDateFormat(pattern, locale).format(item)
+						: String.valueOf(item))
 				.orElse(null);
 	}
 }
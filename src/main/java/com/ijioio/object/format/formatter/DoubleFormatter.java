@@ -0,0 +1,16 @@
+package com.ijioio.object.format.formatter;
+
+import java.util.Locale;
+
+import com.ijioio.object.format.Configuration;
+
+/**
+ * Formatter specialized for {@code double} values. Properties of primitive
+ * {@code double} type are formatted with it without boxing, when the formatter
+ * resolved for the property implements this interface.
+ */
+public interface DoubleFormatter {
+
+	public void formatDouble(double value, Configuration configuration, String pattern, Locale locale,
+			Appendable appendable) throws Exception;
+}
@@ -1,11 +1,36 @@
 package com.ijioio.object.format.formatter;
 
 import java.time.LocalDate;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+/**
+ * Registry of the formatters by type. Lookups are lock free and read an
+ * immutable snapshot of the registrations. Each registration or removal
+ * publishes a new snapshot and increments the {@link #getVersion() version}, so
+ * caches derived from the registry can detect they are stale by comparing
+ * versions.
+ * 
+ * <p>
+ * Formatters are resolved along the type hierarchy, see
+ * {@link #getFormatter(Class)}. Resolutions are memoized per type and are
+ * recomputed only after the registry has changed.
+ * 
+ * <p>
+ * Besides the global registry, immutable {@link #scoped(Map) scoped}
+ * registries layered over it can be created, e.g. to be carried by a
+ * {@link com.ijioio.object.format.Configuration}.
+ */
 public class FormatterRegistry {
 
 	public static FormatterRegistry get() {
@@ -14,24 +39,201 @@ public class FormatterRegistry {
 
 	private static final FormatterRegistry registry = new FormatterRegistry();
 
-	private final Map<Class<?>, Formatter<?>> formatters = new HashMap<>();
+	private final FormatterRegistry parent;
+
+	private volatile Map<Class<?>, Formatter<?>> formatters = Collections.emptyMap();
+
+	private volatile long version;
+
+	private final ClassValue<Resolution> resolutions = new ClassValue<Resolution>() {
+
+		@Override
+		protected Resolution computeValue(Class<?> type) {
+			return new Resolution();
+		}
+	};
 
 	private FormatterRegistry() {
 
+		this.parent = null;
+
 		register(Boolean.class, new BooleanFormatter());
 		register(Character.class, new CharacterFormatter());
 		register(String.class, new StringFormatter());
 		register(Number.class, new NumberFormatter());
 		register(Date.class, new DateFormatter());
 		register(LocalDate.class, new LocalDateFormatter());
+		register(TemporalAccessor.class, new TemporalFormatter());
 		register(Collection.class, new CollectionFormatter());
 	}
 
-	public void register(Class<?> type, Formatter<?> formatter) {
+	private FormatterRegistry(FormatterRegistry parent, Map<Class<?>, Formatter<?>> formatters) {
+
+		this.parent = parent;
+		this.formatters = new HashMap<>(formatters);
+	}
+
+	/**
+	 * Creates immutable registry layered over this one. Formatters resolved from
+	 * indicated {@code formatters} take precedence, the rest of the lookups fall
+	 * through to this registry.
+	 * 
+	 * @param formatters to register in the scoped registry, not null
+	 * @return the scoped registry, not null
+	 */
+	public FormatterRegistry scoped(Map<Class<?>, Formatter<?>> formatters) {
+
+		Objects.requireNonNull(formatters, "formatters must not be null");
+
+		return new FormatterRegistry(this, formatters);
+	}
+
+	public synchronized void register(Class<?> type, Formatter<?> formatter) {
+
+		if (parent != null) {
+			throw new UnsupportedOperationException("scoped registry is immutable");
+		}
+
+		Map<Class<?>, Formatter<?>> formatters = new HashMap<>(this.formatters);
+
 		formatters.put(type, formatter);
+
+		this.formatters = formatters;
+
+		version++;
+	}
+
+	/**
+	 * Removes formatter registered for indicated {@code type}, so the type is
+	 * resolved along its hierarchy again.
+	 * 
+	 * @param type to remove formatter for
+	 */
+	public synchronized void unregister(Class<?> type) {
+
+		if (parent != null) {
+			throw new UnsupportedOperationException("scoped registry is immutable");
+		}
+
+		if (!this.formatters.containsKey(type)) {
+			return;
+		}
+
+		Map<Class<?>, Formatter<?>> formatters = new HashMap<>(this.formatters);
+
+		formatters.remove(type);
+
+		this.formatters = formatters;
+
+		version++;
 	}
 
+	/**
+	 * Returns formatter for indicated {@code type}. If there is no formatter
+	 * registered for the type itself, its superclasses and interfaces are looked
+	 * up level by level, so the most specific formatter wins. On the same level
+	 * superclass takes precedence over interfaces. Formatter registered for
+	 * {@link Object} is used as the last resort.
+	 * 
+	 * @param type to get formatter for
+	 * @return the formatter or null if there is no formatter for the type
+	 */
 	public Formatter<?> getFormatter(Class<?> type) {
-		return formatters.get(type);
+
+		if (type == null) {
+			return null;
+		}
+
+		Map<Class<?>, Formatter<?>> formatters = this.formatters;
+
+		Resolution resolution = resolutions.get(type);
+
+		Resolved resolved = resolution.resolved;
+
+		if (resolved == null || resolved.formatters != formatters) {
+
+			resolved = new Resolved(formatters, resolve(formatters, type));
+
+			resolution.resolved = resolved;
+		}
+
+		if (resolved.formatter == null && parent != null) {
+			return parent.getFormatter(type);
+		}
+
+		return resolved.formatter;
+	}
+
+	private static Formatter<?> resolve(Map<Class<?>, Formatter<?>> formatters, Class<?> type) {
+
+		Formatter<?> formatter = formatters.get(type);
+
+		if (formatter != null) {
+			return formatter;
+		}
+
+		Set<Class<?>> visited = new HashSet<>();
+
+		List<Class<?>> level = Collections.singletonList(type);
+
+		while (!level.isEmpty()) {
+
+			List<Class<?>> nextLevel = new ArrayList<>();
+
+			for (Class<?> item : level) {
+
+				Class<?> superclass = item.getSuperclass();
+
+				if (superclass != null && superclass != Object.class) {
+					nextLevel.add(superclass);
+				}
+
+				nextLevel.addAll(Arrays.asList(item.getInterfaces()));
+			}
+
+			for (Class<?> item : nextLevel) {
+
+				if (visited.add(item)) {
+
+					formatter = formatters.get(item);
+
+					if (formatter != null) {
+						return formatter;
+					}
+				}
+			}
+
+			level = nextLevel;
+		}
+
+		return formatters.get(Object.class);
+	}
+
+	/**
+	 * Returns version of the registry incremented on each registration or
+	 * removal.
+	 * 
+	 * @return version of the registry
+	 */
+	public long getVersion() {
+		return parent != null ? parent.getVersion() : version;
+	}
+
+	private static final class Resolution {
+
+		private volatile Resolved resolved;
+	}
+
+	private static final class Resolved {
+
+		private final Map<Class<?>, Formatter<?>> formatters;
+
+		private final Formatter<?> formatter;
+
+		private Resolved(Map<Class<?>, Formatter<?>> formatters, Formatter<?> formatter) {
+
+			this.formatters = formatters;
+			this.formatter = formatter;
+		}
 	}
 }
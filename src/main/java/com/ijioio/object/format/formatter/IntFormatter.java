@@ -0,0 +1,17 @@
+package com.ijioio.object.format.formatter;
+
+import java.util.Locale;
+
+import com.ijioio.object.format.Configuration;
+
+/**
+ * Formatter specialized for {@code int} values. Properties of primitive
+ * {@code int}, {@code short} and {@code byte} types are formatted with it
+ * without boxing, when the formatter resolved for the property implements this
+ * interface.
+ */
+public interface IntFormatter {
+
+	public void formatInt(int value, Configuration configuration, String pattern, Locale locale,
+			Appendable appendable) throws Exception;
+}
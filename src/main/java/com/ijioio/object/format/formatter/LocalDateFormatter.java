@@ -6,8 +6,11 @@ import java.util.Locale;
 import java.util.Optional;
 
 import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.annotation.Stateless;
+import com.ijioio.object.format.cache.FormatCache;
 import com.ijioio.object.format.object.ObjectHolder;
 
+@Stateless
 public class LocalDateFormatter implements Formatter<LocalDate> {
 
 	@Override
@@ -17,7 +20,7 @@ public class LocalDateFormatter implements Formatter<LocalDate> {
 		LocalDate value = objectHolder.getObject();
 
 		return Optional.ofNullable(value)
-				.map(item -> pattern != null ? DateTimeFormatter.ofPattern(pattern, locale).format(item)
+				.map(item -> pattern != null ? FormatCache.get().getDateTimeFormatter(pattern, locale).format(item)
 						: DateTimeFormatter.ISO_LOCAL_DATE.format(item))
 				.orElse(null);
 	}
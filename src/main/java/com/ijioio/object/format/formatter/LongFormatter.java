@@ -0,0 +1,16 @@
+package com.ijioio.object.format.formatter;
+
+import java.util.Locale;
+
+import com.ijioio.object.format.Configuration;
+
+/**
+ * Formatter specialized for {@code long} values. Properties of primitive
+ * {@code long} type are formatted with it without boxing, when the formatter
+ * resolved for the property implements this interface.
+ */
+public interface LongFormatter {
+
+	public void formatLong(long value, Configuration configuration, String pattern, Locale locale,
+			Appendable appendable) throws Exception;
+}
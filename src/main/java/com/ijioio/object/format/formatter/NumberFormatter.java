@@ -1,14 +1,15 @@
 package com.ijioio.object.format.formatter;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.Locale;
 import java.util.Optional;
 
 import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.annotation.Stateless;
+import com.ijioio.object.format.cache.FormatCache;
 import com.ijioio.object.format.object.ObjectHolder;
 
-public class NumberFormatter implements Formatter<Number> {
+@Stateless
+public class NumberFormatter implements Formatter<Number>, IntFormatter, LongFormatter, DoubleFormatter {
 
 	@Override
 	public String format(ObjectHolder<Number> objectHolder, Configuration configuration, String separator, String pattern,
@@ -19,16 +20,50 @@ public class NumberFormatter implements Formatter<Number> {
 		return Optional.ofNullable(value).map(item -> {
 
 			if (pattern != null) {
-
-				DecimalFormat format = (DecimalFormat) NumberFormat.getNumberInstance(locale);
-
-				format.applyPattern(pattern);
-
-				return format.format(value);
+				return FormatCache.get().getDecimalFormat(pattern, locale).format(value);
 			}
 
 			return String.valueOf(item);
 
 		}).orElse(null);
 	}
+
+	@Override
+	public void formatInt(int value, Configuration configuration, String pattern, Locale locale,
+			Appendable appendable) throws Exception {
+
+		if (pattern != null) {
+			appendable.append(FormatCache.get().getDecimalFormat(pattern, locale).format(value));
+		} else if (appendable instanceof StringBuilder) {
+			((StringBuilder) appendable).append(value);
+		} else {
+			appendable.append(String.valueOf(value));
+		}
+	}
+
+	@Override
+	public void formatLong(long value, Configuration configuration, String pattern, Locale locale,
+			Appendable appendable) throws Exception {
+
+		if (pattern != null) {
+			appendable.append(FormatCache.get().getDecimalFormat(pattern, locale).format(value));
+		} else if (appendable instanceof StringBuilder) {
+			((StringBuilder) appendable).append(value);
+		} else {
+			appendable.append(String.valueOf(value));
+		}
+	}
+
+	@Override
+	public void formatDouble(double value, Configuration configuration, String pattern, Locale locale,
+			Appendable appendable) throws Exception {
+
+		if (pattern != null) {
+			appendable.append(FormatCache.get().getDecimalFormat(pattern, locale).format(value));
+		} else if (appendable instanceof StringBuilder) {
+			((StringBuilder) appendable).append(value);
+		} else {
+			appendable.append(String.valueOf(value));
+		}
+	}
 }
@@ -3,8 +3,10 @@ package com.ijioio.object.format.formatter;
 import java.util.Locale;
 
 import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.annotation.Stateless;
 import com.ijioio.object.format.object.ObjectHolder;
 
+@Stateless
 public class StringFormatter implements Formatter<String> {
 
 	@Override
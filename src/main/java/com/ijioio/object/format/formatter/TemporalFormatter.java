@@ -0,0 +1,26 @@
+package com.ijioio.object.format.formatter;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.Optional;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.annotation.Stateless;
+import com.ijioio.object.format.cache.FormatCache;
+import com.ijioio.object.format.object.ObjectHolder;
+
+@Stateless
+public class TemporalFormatter implements Formatter<TemporalAccessor> {
+
+	@Override
+	public String format(ObjectHolder<TemporalAccessor> objectHolder, Configuration configuration, String separator,
+			String pattern, Locale locale) throws Exception {
+
+		TemporalAccessor value = objectHolder.getObject();
+
+		return Optional.ofNullable(value)
+				.map(item -> pattern != null ? FormatCache.get().getDateTimeFormatter(pattern, locale).format(item)
+						: String.valueOf(item))
+				.orElse(null);
+	}
+}
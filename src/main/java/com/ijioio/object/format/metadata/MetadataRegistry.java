@@ -0,0 +1,88 @@
+package com.ijioio.object.format.metadata;
+
+import java.util.Objects;
+
+import com.ijioio.object.format.metadata.standard.StandardObjectMetadata;
+
+/**
+ * Registry holding object metadata. Metadata is built once per pair of type and
+ * delegate type and shared afterwards.
+ *
+ * <p>
+ * Entries are attached to the classes using {@link ClassValue}. Metadata of
+ * the type without delegate is attached to the type itself. Metadata combined
+ * with delegate type is attached to the delegate type through a class value
+ * owned by the type, so it is released once either the delegate type or the
+ * type entry is gone. Note that metadata references the fields of both the
+ * type and the delegate type, so metadata of the type loaded by a child class
+ * loader combined with the delegate type loaded by a parent class loader keeps
+ * the type reachable as long as the delegate type is.
+ */
+public class MetadataRegistry {
+
+	public static MetadataRegistry get() {
+		return registry;
+	}
+
+	private static final MetadataRegistry registry = new MetadataRegistry();
+
+	private final ClassValue<ObjectMetadata> metadata = new ClassValue<ObjectMetadata>() {
+
+		@Override
+		protected ObjectMetadata computeValue(Class<?> type) {
+			return new StandardObjectMetadata(type, null);
+		}
+	};
+
+	private final ClassValue<ClassValue<ObjectMetadata>> delegatedMetadata = new ClassValue<ClassValue<ObjectMetadata>>() {
+
+		@Override
+		protected ClassValue<ObjectMetadata> computeValue(Class<?> type) {
+
+			return new ClassValue<ObjectMetadata>() {
+
+				@Override
+				protected ObjectMetadata computeValue(Class<?> delegateType) {
+					return new StandardObjectMetadata(type, delegateType);
+				}
+			};
+		}
+	};
+
+	private MetadataRegistry() {
+		// Empty
+	}
+
+	/**
+	 * Returns metadata of indicated {@code type} combined with indicated
+	 * {@code delegateType}. Metadata is built on the first request and cached
+	 * afterwards.
+	 *
+	 * @param type         of the object, not null
+	 * @param delegateType of the object, can be null
+	 * @return metadata of the object, not null
+	 */
+	public ObjectMetadata getMetadata(Class<?> type, Class<?> delegateType) {
+
+		Objects.requireNonNull(type, "type must not be null");
+
+		if (delegateType == null) {
+			return metadata.get(type);
+		}
+
+		return delegatedMetadata.get(type).get(delegateType);
+	}
+
+	/**
+	 * Evicts all the metadata cached for indicated {@code type}.
+	 *
+	 * @param type to evict metadata for, not null
+	 */
+	public void remove(Class<?> type) {
+
+		Objects.requireNonNull(type, "type must not be null");
+
+		metadata.remove(type);
+		delegatedMetadata.remove(type);
+	}
+}
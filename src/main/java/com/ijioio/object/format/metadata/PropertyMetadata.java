@@ -20,4 +20,16 @@ public interface PropertyMetadata {
 	public Set<String> getAliases();
 
 	public Object getValue(Object owner) throws Exception;
+
+	public default int getInt(Object owner) throws Exception {
+		return ((Number) getValue(owner)).intValue();
+	}
+
+	public default long getLong(Object owner) throws Exception {
+		return ((Number) getValue(owner)).longValue();
+	}
+
+	public default double getDouble(Object owner) throws Exception {
+		return ((Number) getValue(owner)).doubleValue();
+	}
 }
@@ -0,0 +1,24 @@
+package com.ijioio.object.format.metadata.accessor;
+
+/**
+ * Interface representing a way to read a property value of an object.
+ * Primitive getters read values of primitive properties without boxing, the
+ * default implementations unbox the value returned by
+ * {@link #getValue(Object)}.
+ */
+public interface Accessor {
+
+	public Object getValue(Object object) throws Exception;
+
+	public default int getInt(Object object) throws Exception {
+		return ((Number) getValue(object)).intValue();
+	}
+
+	public default long getLong(Object object) throws Exception {
+		return ((Number) getValue(object)).longValue();
+	}
+
+	public default double getDouble(Object object) throws Exception {
+		return ((Number) getValue(object)).doubleValue();
+	}
+}
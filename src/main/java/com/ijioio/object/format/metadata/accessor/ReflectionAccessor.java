@@ -0,0 +1,106 @@
+package com.ijioio.object.format.metadata.accessor;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * Accessor reading the field through reflection. Field is made accessible on
+ * the first read.
+ *
+ * <p>
+ * Values of the primitive fields are boxed using {@code valueOf} methods, so
+ * commonly used values come from the caches of the wrapper types. Reflection
+ * of Java 8 boxes them with the constructors instead, allocating on every
+ * read.
+ */
+public class ReflectionAccessor implements Accessor {
+
+	private final Field field;
+
+	private final Class<?> type;
+
+	private volatile boolean accessible;
+
+	public ReflectionAccessor(Field field) {
+
+		Objects.requireNonNull(field, "field must not be null");
+
+		this.field = field;
+		this.type = field.getType();
+	}
+
+	@Override
+	public Object getValue(Object object) throws Exception {
+
+		ensureAccessible();
+
+		if (!type.isPrimitive()) {
+			return field.get(object);
+		}
+
+		if (type == boolean.class) {
+			return Boolean.valueOf(field.getBoolean(object));
+		}
+
+		if (type == char.class) {
+			return Character.valueOf(field.getChar(object));
+		}
+
+		if (type == int.class) {
+			return Integer.valueOf(field.getInt(object));
+		}
+
+		if (type == long.class) {
+			return Long.valueOf(field.getLong(object));
+		}
+
+		if (type == short.class) {
+			return Short.valueOf(field.getShort(object));
+		}
+
+		if (type == byte.class) {
+			return Byte.valueOf(field.getByte(object));
+		}
+
+		return field.get(object);
+	}
+
+	@Override
+	public int getInt(Object object) throws Exception {
+
+		ensureAccessible();
+
+		return field.getInt(object);
+	}
+
+	@Override
+	public long getLong(Object object) throws Exception {
+
+		ensureAccessible();
+
+		return field.getLong(object);
+	}
+
+	@Override
+	public double getDouble(Object object) throws Exception {
+
+		ensureAccessible();
+
+		return field.getDouble(object);
+	}
+
+	private void ensureAccessible() {
+
+		if (!accessible) {
+
+			field.setAccessible(true);
+
+			accessible = true;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ReflectionAccessor [field=" + field + "]";
+	}
+}
@@ -17,7 +17,6 @@ import com.ijioio.object.format.converter.Converter;
 import com.ijioio.object.format.formatter.Formatter;
 import com.ijioio.object.format.metadata.ObjectMetadata;
 import com.ijioio.object.format.metadata.PropertyMetadata;
-import com.ijioio.object.format.util.MetadataUtil;
 
 public class StandardObjectMetadata implements ObjectMetadata {
 
@@ -179,7 +178,7 @@ public class StandardObjectMetadata implements ObjectMetadata {
 
 	@Override
 	public Class<?> getType() {
-		return MetadataUtil.normalizeType(type);
+		return type;
 	}
 
 	@Override
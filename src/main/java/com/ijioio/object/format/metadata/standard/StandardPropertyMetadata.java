@@ -3,13 +3,15 @@ package com.ijioio.object.format.metadata.standard;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import com.ijioio.object.format.annotation.FormatElement;
 import com.ijioio.object.format.converter.Converter;
 import com.ijioio.object.format.formatter.Formatter;
 import com.ijioio.object.format.metadata.PropertyMetadata;
-import com.ijioio.object.format.util.MetadataUtil;
+import com.ijioio.object.format.metadata.accessor.Accessor;
+import com.ijioio.object.format.metadata.accessor.ReflectionAccessor;
 
 public class StandardPropertyMetadata implements PropertyMetadata {
 
@@ -17,6 +19,8 @@ public class StandardPropertyMetadata implements PropertyMetadata {
 
 	private final Field delegateField;
 
+	private final Accessor accessor;
+
 	private Class<? extends Converter<?, ?>> converter;
 
 	private Class<? extends Formatter<?>> formatter;
@@ -31,6 +35,7 @@ public class StandardPropertyMetadata implements PropertyMetadata {
 
 		this.field = field;
 		this.delegateField = delegateField;
+		this.accessor = new ReflectionAccessor(field != null ? field : delegateField);
 
 		init();
 	}
@@ -90,7 +95,7 @@ public class StandardPropertyMetadata implements PropertyMetadata {
 
 	@Override
 	public Class<?> getType() {
-		return MetadataUtil.normalizeType(field != null ? field.getType() : delegateField.getType());
+		return field != null ? field.getType() : delegateField.getType();
 	}
 
 	@Override
@@ -112,29 +117,30 @@ public class StandardPropertyMetadata implements PropertyMetadata {
 	public Object getValue(Object object) throws Exception {
 
 		if (object != null) {
+			return accessor.getValue(object);
+		}
 
-			if (field != null) {
-
-				if (!field.isAccessible()) {
-					field.setAccessible(true);
-				}
-
-				return field.get(object);
-			}
+		return null;
+	}
 
-			if (!delegateField.isAccessible()) {
-				delegateField.setAccessible(true);
-			}
+	@Override
+	public int getInt(Object object) throws Exception {
+		return accessor.getInt(object);
+	}
 
-			return delegateField.get(object);
-		}
+	@Override
+	public long getLong(Object object) throws Exception {
+		return accessor.getLong(object);
+	}
 
-		return null;
+	@Override
+	public double getDouble(Object object) throws Exception {
+		return accessor.getDouble(object);
 	}
 
 	@Override
 	public String toString() {
-		return "StandardPropertyMetadata [field=" + field + ", delegateField=" + delegateField + ", aliases=" + aliases
-				+ "]";
+		return "StandardPropertyMetadata [field=" + field + ", delegateField=" + delegateField + ", accessor="
+				+ accessor + ", aliases=" + aliases + "]";
 	}
 }
@@ -3,8 +3,8 @@ package com.ijioio.object.format.object;
 import java.util.Objects;
 
 import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.metadata.MetadataRegistry;
 import com.ijioio.object.format.metadata.ObjectMetadata;
-import com.ijioio.object.format.metadata.standard.StandardObjectMetadata;
 
 public class ObjectHolder<V> {
 
@@ -12,10 +12,14 @@ public class ObjectHolder<V> {
 
 	private final ObjectHolder<?> parent;
 
-	private final ObjectMetadata metadata;
+	private final Class<?> type;
+
+	private final Configuration configuration;
+
+	private ObjectMetadata metadata;
 
 	public static <V> ObjectHolder<V> of(V object) {
-		return new ObjectHolder<V>(object, null, Configuration.builder().build());
+		return new ObjectHolder<V>(object, null, Configuration.getDefault());
 	}
 
 	public static <V> ObjectHolder<V> of(V object, Configuration configuration) {
@@ -23,7 +27,7 @@ public class ObjectHolder<V> {
 	}
 
 	public static <V> ObjectHolder<V> of(V object, ObjectHolder<?> parent) {
-		return new ObjectHolder<V>(object, parent, Configuration.builder().build());
+		return new ObjectHolder<V>(object, parent, Configuration.getDefault());
 	}
 
 	public static <V> ObjectHolder<V> of(V object, ObjectHolder<?> parent, Configuration configuration) {
@@ -31,7 +35,7 @@ public class ObjectHolder<V> {
 	}
 
 	public static <V> ObjectHolder<V> of(Class<V> type) {
-		return new ObjectHolder<V>(type, null, Configuration.builder().build());
+		return new ObjectHolder<V>(type, null, Configuration.getDefault());
 	}
 
 	public static <V> ObjectHolder<V> of(Class<V> type, Configuration configuration) {
@@ -39,7 +43,7 @@ public class ObjectHolder<V> {
 	}
 
 	public static <V> ObjectHolder<V> of(Class<V> type, ObjectHolder<?> parent) {
-		return new ObjectHolder<V>(type, parent, Configuration.builder().build());
+		return new ObjectHolder<V>(type, parent, Configuration.getDefault());
 	}
 
 	public static <V> ObjectHolder<V> of(Class<V> type, ObjectHolder<?> parent, Configuration configuration) {
@@ -54,11 +58,8 @@ public class ObjectHolder<V> {
 
 		this.object = object;
 		this.parent = parent;
-
-		Class<?> type = object.getClass();
-		Class<?> delegateType = configuration.getDelegateConfiguration().getDelegates().get(type);
-
-		metadata = new StandardObjectMetadata(type, delegateType);
+		this.type = object.getClass();
+		this.configuration = configuration;
 	}
 
 	// TODO: rename parent to previous
@@ -69,10 +70,8 @@ public class ObjectHolder<V> {
 
 		this.object = null;
 		this.parent = parent;
-
-		Class<?> delegateType = configuration.getDelegateConfiguration().getDelegates().get(type);
-
-		metadata = new StandardObjectMetadata(type, delegateType);
+		this.type = type;
+		this.configuration = configuration;
 	}
 
 	public V getObject() {
@@ -83,7 +82,31 @@ public class ObjectHolder<V> {
 		return parent;
 	}
 
+	public Configuration getConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * Returns metadata of the held object. Metadata is looked up on the first
+	 * request only, so holders of the values that are never resolved against
+	 * (e.g. leaf strings and numbers) do not pay for it.
+	 * 
+	 * @return metadata of the object, not null
+	 */
 	public ObjectMetadata getMetadata() {
+
+		// Racy single-check is fine here since the registry publishes metadata safely
+		// and always returns the same instance
+		ObjectMetadata metadata = this.metadata;
+
+		if (metadata == null) {
+
+			metadata = MetadataRegistry.get().getMetadata(type,
+					configuration.getDelegateConfiguration().getDelegate(type));
+
+			this.metadata = metadata;
+		}
+
 		return metadata;
 	}
 }
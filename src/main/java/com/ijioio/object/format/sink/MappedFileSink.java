@@ -0,0 +1,208 @@
+package com.ijioio.object.format.sink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * UTF-8 sink writing right into the file mapped to memory, so encoded bytes go
+ * to the page cache without being copied through the intermediate buffers of
+ * the streams. File is mapped region by region: once the current region is
+ * full the next one is mapped starting at the current size of the file, growing
+ * the file as needed. When closed, the file is truncated to the exact size of
+ * the data written.
+ *
+ * <p>
+ * Mapped regions are released by the garbage collector only, so on the
+ * platforms that don't allow truncating mapped files (e.g. Windows) closing the
+ * sink may fail.
+ *
+ * <p>
+ * Sink is not thread safe.
+ */
+public class MappedFileSink extends Utf8Sink implements Closeable {
+
+	private static final int REGION_SIZE_DEFAULT_VALUE = 64 * 1024 * 1024;
+
+	private static final int REGION_SIZE_MINIMUM_VALUE = 4;
+
+	private final FileChannel channel;
+
+	private final int regionSize;
+
+	/**
+	 * Position of the current region within the file.
+	 */
+	private long regionPosition;
+
+	private boolean closed;
+
+	/**
+	 * Opens sink for indicated file using default region size. Existing file is
+	 * truncated.
+	 *
+	 * @param path of the file, not null
+	 * @return the sink, not null
+	 * @throws IOException if file can not be opened or mapped
+	 */
+	public static MappedFileSink open(Path path) throws IOException {
+		return open(path, REGION_SIZE_DEFAULT_VALUE);
+	}
+
+	/**
+	 * Opens sink for indicated file mapping it by the regions of indicated size.
+	 * Existing file is truncated.
+	 *
+	 * @param path       of the file, not null
+	 * @param regionSize size of the mapped regions in bytes, at least 4
+	 * @return the sink, not null
+	 * @throws IOException if file can not be opened or mapped
+	 */
+	public static MappedFileSink open(Path path, int regionSize) throws IOException {
+
+		Objects.requireNonNull(path, "path must not be null");
+
+		if (regionSize < REGION_SIZE_MINIMUM_VALUE) {
+			throw new IllegalArgumentException(
+					String.format("region size %s must be at least %s", regionSize, REGION_SIZE_MINIMUM_VALUE));
+		}
+
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		try {
+
+			return new MappedFileSink(channel, regionSize, channel.map(MapMode.READ_WRITE, 0, regionSize));
+
+		} catch (IOException | RuntimeException e) {
+
+			channel.close();
+
+			throw e;
+		}
+	}
+
+	private MappedFileSink(FileChannel channel, int regionSize, MappedByteBuffer buffer) {
+
+		super(buffer);
+
+		this.channel = channel;
+		this.regionSize = regionSize;
+	}
+
+	/**
+	 * Returns number of bytes written so far.
+	 *
+	 * @return the size of the data written
+	 */
+	public long getSize() {
+		return closed ? regionPosition : regionPosition + buffer.position();
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public MappedFileSink append(CharSequence csq) throws IOException {
+
+		checkOpen();
+
+		super.append(csq);
+
+		return this;
+	}
+
+	@Override
+	public MappedFileSink append(CharSequence csq, int start, int end) throws IOException {
+
+		checkOpen();
+
+		super.append(csq, start, end);
+
+		return this;
+	}
+
+	@Override
+	public MappedFileSink append(char c) throws IOException {
+
+		checkOpen();
+
+		super.append(c);
+
+		return this;
+	}
+
+	@Override
+	public MappedFileSink write(byte[] bytes) throws IOException {
+
+		checkOpen();
+
+		super.write(bytes);
+
+		return this;
+	}
+
+	@Override
+	public void finish() throws IOException {
+
+		checkOpen();
+
+		super.finish();
+	}
+
+	@Override
+	protected void overflow(int required) throws IOException {
+
+		checkOpen();
+
+		long position = getSize();
+
+		buffer = channel.map(MapMode.READ_WRITE, position, regionSize);
+		regionPosition = position;
+	}
+
+	/**
+	 * Completes encoding, truncates the file to the size of the data written and
+	 * closes it.
+	 *
+	 * @throws IOException if file can not be truncated or closed
+	 */
+	@Override
+	public void close() throws IOException {
+
+		if (closed) {
+			return;
+		}
+
+		try {
+
+			finish();
+
+			channel.truncate(getSize());
+
+		} finally {
+
+			regionPosition = getSize();
+
+			closed = true;
+
+			// Mapping past the truncated end of the file must not be touched anymore
+			buffer = null;
+
+			channel.close();
+		}
+	}
+
+	private void checkOpen() {
+
+		if (closed) {
+			throw new IllegalStateException("sink is closed");
+		}
+	}
+}
@@ -0,0 +1,271 @@
+package com.ijioio.object.format.sink;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Appendable encoding characters to UTF-8 right into a {@link ByteBuffer}, so
+ * formatting to bytes doesn't build an intermediate string to encode it
+ * afterwards. Characters are encoded incrementally as they are appended, with
+ * a fast path for the runs of ASCII characters. Already encoded bytes, like the
+ * literals of the pattern encoded once at parse time, are copied as they are.
+ *
+ * <p>
+ * Surrogate pair split between two appends is encoded once the low surrogate
+ * is appended. Malformed surrogates are replaced with {@code '?'}, the same
+ * way {@link String#getBytes(java.nio.charset.Charset)} does.
+ *
+ * <p>
+ * Once the buffer is full {@link #overflow(int)} is called, by default it
+ * throws {@link BufferOverflowException}. Subclasses can override it to drain
+ * or replace the buffer.
+ *
+ * <p>
+ * Sink is not thread safe.
+ */
+public class Utf8Sink implements Appendable {
+
+	private static final byte REPLACEMENT = '?';
+
+	protected ByteBuffer buffer;
+
+	/**
+	 * High surrogate waiting for the low one, {@code 0} if none.
+	 */
+	private char highSurrogate;
+
+	public Utf8Sink(ByteBuffer buffer) {
+
+		Objects.requireNonNull(buffer, "buffer must not be null");
+
+		this.buffer = buffer;
+	}
+
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	@Override
+	public Utf8Sink append(CharSequence csq) throws IOException {
+
+		if (csq == null) {
+			return append("null", 0, 4);
+		}
+
+		return append(csq, 0, csq.length());
+	}
+
+	@Override
+	public Utf8Sink append(CharSequence csq, int start, int end) throws IOException {
+
+		if (csq == null) {
+			return append("null", start, end);
+		}
+
+		int i = start;
+
+		while (i < end) {
+
+			if (highSurrogate == 0) {
+
+				// Fast path for the run of ASCII characters
+				i = buffer.hasArray() ? appendAsciiToArray(csq, i, end) : appendAscii(csq, i, end);
+
+				if (i == end) {
+					break;
+				}
+			}
+
+			appendChar(csq.charAt(i++));
+		}
+
+		return this;
+	}
+
+	@Override
+	public Utf8Sink append(char c) throws IOException {
+
+		appendChar(c);
+
+		return this;
+	}
+
+	/**
+	 * Writes already UTF-8 encoded bytes.
+	 *
+	 * @param bytes to write, not null
+	 * @return this sink
+	 * @throws IOException if bytes can not be written
+	 */
+	public Utf8Sink write(byte[] bytes) throws IOException {
+
+		if (highSurrogate != 0) {
+			finish();
+		}
+
+		int offset = 0;
+
+		while (offset < bytes.length) {
+
+			if (!buffer.hasRemaining()) {
+				require(1);
+			}
+
+			int length = Math.min(bytes.length - offset, buffer.remaining());
+
+			buffer.put(bytes, offset, length);
+
+			offset += length;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Completes encoding of the appended characters. High surrogate that is still
+	 * waiting for the low one is replaced.
+	 *
+	 * @throws IOException if replacement can not be written
+	 */
+	public void finish() throws IOException {
+
+		if (highSurrogate != 0) {
+
+			highSurrogate = 0;
+
+			require(1);
+
+			buffer.put(REPLACEMENT);
+		}
+	}
+
+	/**
+	 * Called when the buffer doesn't have enough space for the next bytes.
+	 *
+	 * @param required number of bytes required, never more than 4
+	 * @throws IOException if buffer can not be drained
+	 */
+	protected void overflow(int required) throws IOException {
+		throw new BufferOverflowException();
+	}
+
+	private void require(int required) throws IOException {
+
+		if (buffer.remaining() < required) {
+
+			overflow(required);
+
+			if (buffer.remaining() < required) {
+				throw new BufferOverflowException();
+			}
+		}
+	}
+
+	private int appendAsciiToArray(CharSequence csq, int start, int end) {
+
+		byte[] array = buffer.array();
+
+		int position = buffer.position();
+		int offset = buffer.arrayOffset() + position;
+		int length = Math.min(end - start, buffer.limit() - position);
+
+		int i = 0;
+
+		for (; i < length; i++) {
+
+			char c = csq.charAt(start + i);
+
+			if (c >= 0x80) {
+				break;
+			}
+
+			array[offset + i] = (byte) c;
+		}
+
+		buffer.position(position + i);
+
+		return start + i;
+	}
+
+	private int appendAscii(CharSequence csq, int start, int end) {
+
+		int length = Math.min(end - start, buffer.remaining());
+
+		int i = 0;
+
+		for (; i < length; i++) {
+
+			char c = csq.charAt(start + i);
+
+			if (c >= 0x80) {
+				break;
+			}
+
+			buffer.put((byte) c);
+		}
+
+		return start + i;
+	}
+
+	private void appendChar(char c) throws IOException {
+
+		if (highSurrogate != 0) {
+
+			char high = highSurrogate;
+
+			highSurrogate = 0;
+
+			if (Character.isLowSurrogate(c)) {
+
+				int codePoint = Character.toCodePoint(high, c);
+
+				require(4);
+
+				buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+
+				return;
+			}
+
+			require(1);
+
+			buffer.put(REPLACEMENT);
+		}
+
+		if (c < 0x80) {
+
+			require(1);
+
+			buffer.put((byte) c);
+
+		} else if (c < 0x800) {
+
+			require(2);
+
+			buffer.put((byte) (0xC0 | (c >> 6)));
+			buffer.put((byte) (0x80 | (c & 0x3F)));
+
+		} else if (Character.isHighSurrogate(c)) {
+
+			highSurrogate = c;
+
+		} else if (Character.isLowSurrogate(c)) {
+
+			require(1);
+
+			buffer.put(REPLACEMENT);
+
+		} else {
+
+			require(3);
+
+			buffer.put((byte) (0xE0 | (c >> 12)));
+			buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+			buffer.put((byte) (0x80 | (c & 0x3F)));
+		}
+	}
+}
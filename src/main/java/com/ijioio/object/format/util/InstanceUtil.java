@@ -0,0 +1,56 @@
+package com.ijioio.object.format.util;
+
+import java.util.function.Supplier;
+
+import com.ijioio.object.format.annotation.Stateless;
+import com.ijioio.object.format.exception.FormatException;
+
+/** Helper class for instances of converters and formatters. */
+public class InstanceUtil {
+
+	/**
+	 * Suppliers of the instances. Whether the type is {@link Stateless} is
+	 * checked once per type, stateless types are instantiated once as well.
+	 */
+	private static final ClassValue<Supplier<?>> suppliers = new ClassValue<Supplier<?>>() {
+
+		@Override
+		protected Supplier<?> computeValue(Class<?> type) {
+
+			if (type.isAnnotationPresent(Stateless.class)) {
+
+				Object instance = newInstance(type);
+
+				return () -> instance;
+			}
+
+			return () -> newInstance(type);
+		}
+	};
+
+	/**
+	 * Returns instance of indicated {@code type}. Types marked with
+	 * {@link Stateless} are instantiated once and the same instance is returned
+	 * for all the threads. Other types are instantiated on every call, as they
+	 * may keep state and be reentered, e.g. when formatting nested values.
+	 *
+	 * @param type to return instance of, not null
+	 * @return instance of the type, not null
+	 * @throws FormatException if type can not be instantiated
+	 */
+	public static <T> T getInstance(Class<T> type) {
+		return type.cast(suppliers.get(type).get());
+	}
+
+	private static Object newInstance(Class<?> type) {
+
+		try {
+
+			return type.newInstance();
+
+		} catch (InstantiationException | IllegalAccessException e) {
+
+			throw new FormatException(String.format("object of type %s instantiation failed", type), e);
+		}
+	}
+}
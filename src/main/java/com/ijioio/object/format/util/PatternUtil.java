@@ -10,7 +10,7 @@ public class PatternUtil {
 	public static class Pattern {
 
 		public static String self() {
-			return self(null, Configuration.builder().build());
+			return self(null, Configuration.getDefault());
 		}
 
 		public static String self(Configuration configuration) {
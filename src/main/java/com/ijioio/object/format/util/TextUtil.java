@@ -24,4 +24,65 @@ public class TextUtil {
 	public static boolean isEmpty(CharSequence value) {
 		return value == null || value.toString().isEmpty();
 	}
+
+	/**
+	 * Removes escape sequences from indicated {@code value}. Parts of the value
+	 * enclosed with {@code escapeSequence} are taken as is, doubled escape
+	 * sequence stands for the escape sequence itself.
+	 *
+	 * @param value          to unescape, not null
+	 * @param escapeSequence to use, not null
+	 * @return unescaped value, not null
+	 */
+	public static String unescape(String value, String escapeSequence) {
+
+		StringBuilder result = new StringBuilder(value.length());
+
+		boolean escape = false;
+
+		for (int i = 0; i < value.length(); i++) {
+
+			// If current character is escape character
+			if (value.regionMatches(i, escapeSequence, 0, escapeSequence.length())) {
+
+				if (escape) {
+
+					// Drop escape sequence flag
+					escape = false;
+
+					// Shift index
+					i += escapeSequence.length() - 1;
+
+				} else {
+
+					// If next character is exists
+					// and it is an escape character
+					if (value.regionMatches(i + escapeSequence.length(), escapeSequence, 0,
+							escapeSequence.length())) {
+
+						// Append escape character
+						result.append(escapeSequence);
+
+						// Shift index
+						i += escapeSequence.length() * 2 - 1;
+
+					} else {
+
+						// Rise escape sequence flag
+						escape = true;
+
+						// Shift index
+						i += escapeSequence.length() - 1;
+					}
+				}
+
+			} else {
+
+				// Append character
+				result.append(value.charAt(i));
+			}
+		}
+
+		return result.toString();
+	}
 }
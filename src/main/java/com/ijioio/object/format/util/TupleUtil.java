@@ -1,5 +1,7 @@
 package com.ijioio.object.format.util;
 
+import java.util.Objects;
+
 /** Helper class for tuples. */
 public class TupleUtil {
 
@@ -45,6 +47,27 @@ public class TupleUtil {
       return second;
     }
 
+    @Override
+    public int hashCode() {
+      return Objects.hash(first, second);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (this == obj) {
+        return true;
+      }
+
+      if (!(obj instanceof Pair)) {
+        return false;
+      }
+
+      Pair<?, ?> other = (Pair<?, ?>) obj;
+
+      return Objects.equals(first, other.first) && Objects.equals(second, other.second);
+    }
+
     @Override
     public String toString() {
       return "Pair [first=" + first + ", second=" + second + "]";
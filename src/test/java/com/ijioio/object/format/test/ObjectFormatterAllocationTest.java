@@ -0,0 +1,150 @@
+package com.ijioio.object.format.test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.FixedWidthObjectFormatter;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.object.ObjectHolder;
+import com.ijioio.object.format.sink.Utf8Sink;
+import com.sun.management.ThreadMXBean;
+
+public class ObjectFormatterAllocationTest {
+
+	private static final int ITERATIONS = 10000;
+
+	private static final int MAXIMUM_NOISE = 8;
+
+	@Test
+	public void scalarAllocationTest() {
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=name} '#'${id=number} ${id=active} ${id=grade} ${id=laps} ${id=points} ${id=time}");
+
+		ObjectHolder<Scalars> objectHolder = ObjectHolder.of(new Scalars("Lewis", 44, true, 'A', 58L, 4405, 5497236L));
+
+		StringBuilder result = new StringBuilder(256);
+
+		format.formatTo(objectHolder, Locale.ENGLISH, result);
+
+		Assert.assertEquals("Lewis #44 true A 58 4405 5497236", result.toString());
+
+		assertNoAllocation(() -> {
+
+			result.setLength(0);
+
+			format.formatTo(objectHolder, Locale.ENGLISH, result);
+		});
+	}
+
+	@Test
+	public void fixedWidthAllocationTest() {
+
+		FixedWidthObjectFormatter format = ObjectFormatter.fixedWidth("${id=name|padding=-8|truncate=true}"
+				+ "${id=number|padding=0:4}${id=active|padding=6}${id=points|padding=8}");
+
+		ObjectHolder<Scalars> objectHolder = ObjectHolder.of(new Scalars("Hamilton Lewis", 44, true, 'A', 58L, 4405,
+				5497236L));
+
+		char[] record = new char[format.getRecordLength()];
+
+		format.formatTo(objectHolder, Locale.ENGLISH, record, 0);
+
+		Assert.assertEquals("Hamilton0044  true    4405", new String(record));
+
+		assertNoAllocation(() -> format.formatTo(objectHolder, Locale.ENGLISH, record, 0));
+	}
+
+	@Test
+	public void decoratedAllocationTest() {
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=name|prefix=(|suffix=)|padding=-16} ${id=number|padding=0:4} ${id=points|prefix=#}");
+
+		ObjectHolder<Scalars> objectHolder = ObjectHolder.of(new Scalars("Lewis", 44, true, 'A', 58L, 4405, 5497236L));
+
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+
+		Utf8Sink sink = new Utf8Sink(buffer);
+
+		format.formatTo(objectHolder, Locale.ENGLISH, sink);
+
+		Assert.assertEquals("(Lewis)          0044 #4405",
+				new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+
+		assertNoAllocation(() -> {
+
+			buffer.clear();
+
+			format.formatTo(objectHolder, Locale.ENGLISH, sink);
+		});
+	}
+
+	/**
+	 * Runs the operation to warm it up, then measures the bytes allocated by the
+	 * current thread while running it again and asserts that nothing is
+	 * allocated per operation.
+	 */
+	private static void assertNoAllocation(Runnable operation) {
+
+		ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		Assert.assertTrue(threadMXBean.isThreadAllocatedMemorySupported());
+
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+		long threadId = Thread.currentThread().getId();
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			operation.run();
+		}
+
+		// Measures allocations of the measurement itself to exclude them
+		long overhead = -threadMXBean.getThreadAllocatedBytes(threadId) + threadMXBean.getThreadAllocatedBytes(threadId);
+
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			operation.run();
+		}
+
+		allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocated - overhead;
+
+		// Smallest object takes 16 bytes, anything below that is the noise of the
+		// runtime rather than an allocation per operation
+		Assert.assertTrue(allocated / ITERATIONS + " bytes per operation", allocated / ITERATIONS < MAXIMUM_NOISE);
+	}
+
+	public static class Scalars {
+
+		private final String name;
+
+		private final int number;
+
+		private final boolean active;
+
+		private final char grade;
+
+		private final Long laps;
+
+		private final int points;
+
+		private final long time;
+
+		private Scalars(String name, int number, boolean active, char grade, Long laps, int points, long time) {
+
+			this.name = name;
+			this.number = number;
+			this.active = active;
+			this.grade = grade;
+			this.laps = laps;
+			this.points = points;
+			this.time = time;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package com.ijioio.object.format.test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.exception.FormatException;
+
+public class ObjectFormatterBatchTest {
+
+	private static final List<Driver> DRIVERS = Arrays.asList(new Driver("Lewis", "Hamilton"),
+			new Driver("George", "Russell"), new Driver("Max", "Verstappen"));
+
+	@Test
+	public void formatAllTest() {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=lastName} ${id=firstName}",
+				Configuration.builder().recordSeparatorSequence("\n").build());
+
+		StringBuilder actual = new StringBuilder();
+
+		format.formatAll(DRIVERS, Locale.ENGLISH, actual);
+
+		String expected = "Hamilton Lewis\nRussell George\nVerstappen Max";
+
+		Assert.assertEquals(expected, actual.toString());
+	}
+
+	@Test
+	public void formatAllDefaultSeparatorTest() {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=lastName}");
+
+		StringBuilder actual = new StringBuilder();
+
+		format.formatAll(DRIVERS, Locale.ENGLISH, actual);
+
+		String expected = String.join(System.lineSeparator(), "Hamilton", "Russell", "Verstappen");
+
+		Assert.assertEquals(expected, actual.toString());
+	}
+
+	@Test
+	public void formatStreamTest() {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName} ${id=lastName}");
+
+		List<String> expected = Arrays.asList("Lewis Hamilton", "George Russell", "Max Verstappen");
+		List<String> actual = format.formatStream(DRIVERS.stream(), Locale.ENGLISH).collect(Collectors.toList());
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void formatAllParallelTest() {
+
+		List<Driver> drivers = IntStream.range(0, 10000).mapToObj(i -> DRIVERS.get(i % DRIVERS.size()))
+				.collect(Collectors.toList());
+
+		ObjectFormatter format = ObjectFormatter.of("${id=lastName} ${id=firstName}",
+				Configuration.builder().recordSeparatorSequence("\n").build());
+
+		StringBuilder expected = new StringBuilder();
+
+		format.formatAll(drivers, Locale.ENGLISH, expected);
+
+		StringBuilder actual = new StringBuilder();
+
+		format.formatAllParallel(drivers, Locale.ENGLISH, 4, actual);
+
+		Assert.assertEquals(expected.toString(), actual.toString());
+	}
+
+	@Test
+	public void formatAllParallelExecutorTest() {
+
+		List<Driver> drivers = IntStream.range(0, 10000).mapToObj(i -> DRIVERS.get(i % DRIVERS.size()))
+				.collect(Collectors.toCollection(LinkedList::new));
+
+		ObjectFormatter format = ObjectFormatter.of("${id=lastName} ${id=firstName}",
+				Configuration.builder().recordSeparatorSequence("\n").build());
+
+		StringBuilder expected = new StringBuilder();
+
+		format.formatAll(drivers, Locale.ENGLISH, expected);
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try {
+
+			StringBuilder actual = new StringBuilder();
+
+			format.formatAllParallel(drivers, Locale.ENGLISH, executor, actual);
+
+			Assert.assertEquals(expected.toString(), actual.toString());
+
+		} finally {
+
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void formatAllParallelFailureTest() {
+
+		List<Driver> drivers = IntStream.range(0, 10000)
+				.mapToObj(i -> new Driver(i == 1500 ? "invalid" : "12", "Hamilton")).collect(Collectors.toList());
+
+		ObjectFormatter format = ObjectFormatter.of("${id=lastName|padding=${id=firstName}}");
+
+		try {
+
+			format.formatAllParallel(drivers, Locale.ENGLISH, 2, new StringBuilder());
+
+			Assert.fail("formatting expected to fail");
+
+		} catch (FormatException e) {
+
+			// Failure of the chunk is reported, not cancellation of the others
+			Assert.assertFalse(e.getCause() instanceof CancellationException);
+		}
+	}
+
+	public static class Driver {
+
+		private final String firstName;
+
+		private final String lastName;
+
+		private Driver(String firstName, String lastName) {
+
+			this.firstName = firstName;
+			this.lastName = lastName;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.ijioio.object.format.test;
+
+import java.io.StringWriter;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.PatternSyntaxException;
+import com.ijioio.object.format.exception.FormatException;
+
+public class ObjectFormatterDecorationTest {
+
+	@Test
+	public void paddingTest() {
+
+		Driver driver = new Driver("Lewis", null, 44, "5");
+
+		ObjectFormatter format = ObjectFormatter.of("[${id=firstName|padding=8}] [${id=firstName|padding=-8}] "
+				+ "[${id=number|padding=0:5}] [${id=number|padding=::-4}] [${id=firstName|padding=3}] "
+				+ "[${id=lastName|padding=4}] [${id=lastName|padding=${id=width}}]");
+
+		String expected = "[   Lewis] [Lewis   ] [00044] [44::] [Lewis] [    ] [     ]";
+		String actual = format.format(driver, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void prefixAndSuffixTest() {
+
+		Driver driver = new Driver("Lewis", null, 44, "5");
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName|prefix=(|suffix=)}"
+				+ "${id=lastName|prefix=' '(|suffix=)}${id=lastName|default=-|prefix=' '(|suffix=)} "
+				+ "${id=firstName|prefix=${id=number}' '|suffix=' '|padding=-12}|");
+
+		String expected = "(Lewis) (-) 44 Lewis    |";
+		String actual = format.format(driver, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+
+		StringWriter writer = new StringWriter();
+
+		format.formatTo(driver, Locale.ENGLISH, writer);
+
+		Assert.assertEquals(expected, writer.toString());
+	}
+
+	@Test
+	public void nestedDecorationTest() {
+
+		Driver driver = new Driver("Lewis", null, 44, "5");
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName|prefix=${id=number|padding=0:4|prefix=#}' '"
+				+ "|suffix=${id=width|prefix=/|padding=3}|padding=-16}|");
+
+		String expected = "0#44 Lewis /5   |";
+
+		Assert.assertEquals(expected, format.format(driver, Locale.ENGLISH));
+
+		for (int i = 0; i < 2; i++) {
+
+			StringWriter writer = new StringWriter();
+
+			format.formatTo(driver, Locale.ENGLISH, writer);
+
+			Assert.assertEquals(expected, writer.toString());
+		}
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void paddingInvalidTest() {
+		ObjectFormatter.of("${id=firstName|padding=ab:5}");
+	}
+
+	@Test(expected = FormatException.class)
+	public void paddingInvalidDynamicTest() {
+		ObjectFormatter.of("${id=firstName|padding=${id=firstName}}").format(new Driver("Lewis", null, 44, "5"));
+	}
+
+	public static class Driver {
+
+		private final String firstName;
+
+		private final String lastName;
+
+		private final int number;
+
+		private final String width;
+
+		private Driver(String firstName, String lastName, int number, String width) {
+
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.number = number;
+			this.width = width;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.ijioio.object.format.test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.FixedWidthObjectFormatter;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.PatternSyntaxException;
+import com.ijioio.object.format.exception.FormatException;
+
+public class ObjectFormatterFixedWidthTest {
+
+	private static final String PATTERN = "${id=reference|padding=-8}"
+			+ "${id=guest|padding=-10|truncate=true}|${id=date|pattern=yyyyMMdd|padding=8}"
+			+ "${id=amount|pattern=0.00|padding=0:9}${id=nights|padding=3}";
+
+	@Test
+	public void fixedWidthTest() {
+
+		FixedWidthObjectFormatter format = ObjectFormatter.fixedWidth(PATTERN);
+
+		Assert.assertEquals(39, format.getRecordLength());
+
+		Booking booking = new Booking("BK-1", "Lewis Hamilton", LocalDate.of(2021, 7, 18), new BigDecimal("1234.5"),
+				3);
+
+		String expected = "BK-1    Lewis Hami|20210718001234.50  3";
+		String actual = format.format(booking, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+
+		char[] record = new char[format.getRecordLength() + 2];
+
+		Arrays.fill(record, '#');
+
+		format.formatTo(booking, Locale.ENGLISH, record, 1);
+
+		Assert.assertEquals("#" + expected + "#", new String(record));
+	}
+
+	@Test
+	public void fixedWidthAllTest() {
+
+		Configuration configuration = Configuration.builder() //
+				.recordSeparatorSequence("\n") //
+				.build();
+
+		FixedWidthObjectFormatter format = ObjectFormatter.fixedWidth(PATTERN, configuration);
+
+		StringWriter writer = new StringWriter();
+
+		format.formatAll(Arrays.asList(
+				new Booking("BK-1", "Lewis Hamilton", LocalDate.of(2021, 7, 18), new BigDecimal("1234.5"), 3),
+				new Booking("BK-2", null, LocalDate.of(2021, 7, 19), new BigDecimal("99"), 12)), Locale.ENGLISH,
+				writer);
+
+		String expected = "BK-1    Lewis Hami|20210718001234.50  3\n"
+				+ "BK-2              |20210719000099.00 12";
+		String actual = writer.toString();
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test(expected = FormatException.class)
+	public void fixedWidthOverflowTest() {
+
+		ObjectFormatter.fixedWidth(PATTERN).format(
+				new Booking("BK-123456", "Lewis", LocalDate.of(2021, 7, 18), new BigDecimal("1"), 1), Locale.ENGLISH);
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void fixedWidthMissingPaddingTest() {
+		ObjectFormatter.fixedWidth("${id=reference|padding=-8}${id=guest}");
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void fixedWidthDynamicPaddingTest() {
+		ObjectFormatter.fixedWidth("${id=reference|padding=${id=nights}}");
+	}
+
+	@Test(expected = PatternSyntaxException.class)
+	public void truncateWithoutPaddingTest() {
+		ObjectFormatter.of("${id=reference|truncate=true}");
+	}
+
+	public static class Booking {
+
+		private final String reference;
+
+		private final String guest;
+
+		private final LocalDate date;
+
+		private final BigDecimal amount;
+
+		private final int nights;
+
+		private Booking(String reference, String guest, LocalDate date, BigDecimal amount, int nights) {
+
+			this.reference = reference;
+			this.guest = guest;
+			this.date = date;
+			this.amount = amount;
+			this.nights = nights;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.ijioio.object.format.test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.cache.FormatCache;
+
+public class ObjectFormatterFormatCacheTest {
+
+	@Test
+	public void formatCacheTest() {
+
+		Invoice invoice = new Invoice(new BigDecimal("1234.5"),
+				new GregorianCalendar(2021, Calendar.MARCH, 14).getTime(), LocalDate.of(2021, Month.APRIL, 14));
+
+		ObjectFormatter format = ObjectFormatter.of("${id=amount|pattern=#,##0.00} ${id=issued|pattern=dd/MM/yyyy} "
+				+ "${id=due|pattern=dd MMM yyyy}");
+
+		long decimalMissCount = FormatCache.get().getDecimalFormatCache().getMissCount();
+		long simpleDateMissCount = FormatCache.get().getSimpleDateFormatCache().getMissCount();
+		long dateTimeMissCount = FormatCache.get().getDateTimeFormatterCache().getMissCount();
+
+		for (int i = 0; i < 10; i++) {
+
+			String expected = "1,234.50 14/03/2021 14 Apr 2021";
+			String actual = format.format(invoice, Locale.ENGLISH);
+
+			Assert.assertEquals(expected, actual);
+		}
+
+		Assert.assertTrue(FormatCache.get().getDecimalFormatCache().getMissCount() - decimalMissCount <= 1);
+		Assert.assertTrue(FormatCache.get().getSimpleDateFormatCache().getMissCount() - simpleDateMissCount <= 1);
+		Assert.assertTrue(FormatCache.get().getDateTimeFormatterCache().getMissCount() - dateTimeMissCount <= 1);
+
+		String expected = "1.234,50";
+		String actual = ObjectFormatter.of("${id=amount|pattern=#,##0.00}").format(invoice, Locale.GERMANY);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void formatCacheTimeZoneTest() {
+
+		TimeZone timeZone = TimeZone.getDefault();
+
+		try {
+
+			ObjectFormatter format = ObjectFormatter.of("${id=issued|pattern=HH:mm}");
+
+			TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+			Invoice invoice = new Invoice(null, new Date(0), null);
+
+			Assert.assertEquals("00:00", format.format(invoice, Locale.ENGLISH));
+
+			TimeZone.setDefault(TimeZone.getTimeZone("GMT+03:00"));
+
+			Assert.assertEquals("03:00", format.format(invoice, Locale.ENGLISH));
+
+		} finally {
+			TimeZone.setDefault(timeZone);
+		}
+	}
+
+	public static class Invoice {
+
+		private final BigDecimal amount;
+
+		private final Date issued;
+
+		private final LocalDate due;
+
+		private Invoice(BigDecimal amount, Date issued, LocalDate due) {
+
+			this.amount = amount;
+			this.issued = issued;
+			this.due = due;
+		}
+	}
+}
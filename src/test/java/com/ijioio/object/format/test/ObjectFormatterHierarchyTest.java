@@ -0,0 +1,164 @@
+package com.ijioio.object.format.test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.formatter.DateFormatter;
+import com.ijioio.object.format.formatter.Formatter;
+import com.ijioio.object.format.formatter.FormatterRegistry;
+import com.ijioio.object.format.object.ObjectHolder;
+
+public class ObjectFormatterHierarchyTest {
+
+	@Test
+	public void hierarchyTest() {
+
+		Session session = new Session(new Timestamp(new GregorianCalendar(2021, Calendar.JULY, 18).getTimeInMillis()),
+				LocalDateTime.of(2021, 7, 18, 15, 0));
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=recorded|pattern=dd/MM/yyyy} ${id=start|pattern=dd/MM/yyyy HH:mm} ${id=start}");
+
+		String expected = "18/07/2021 18/07/2021 15:00 2021-07-18T15:00";
+		String actual = format.format(session, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+
+		Assert.assertTrue(FormatterRegistry.get().getFormatter(Timestamp.class) instanceof DateFormatter);
+	}
+
+	@Test
+	public void hierarchyInvalidationTest() {
+
+		Assert.assertFalse(FormatterRegistry.get().getFormatter(Lap.class) instanceof LapFormatter);
+
+		FormatterRegistry.get().register(Lap.class, new LapFormatter());
+
+		try {
+
+			Assert.assertTrue(FormatterRegistry.get().getFormatter(Lap.class) instanceof LapFormatter);
+			Assert.assertTrue(FormatterRegistry.get().getFormatter(FastestLap.class) instanceof LapFormatter);
+
+		} finally {
+			FormatterRegistry.get().unregister(Lap.class);
+		}
+
+		Assert.assertFalse(FormatterRegistry.get().getFormatter(Lap.class) instanceof LapFormatter);
+		Assert.assertFalse(FormatterRegistry.get().getFormatter(FastestLap.class) instanceof LapFormatter);
+	}
+
+	@Test
+	public void hierarchySubtypeTest() {
+
+		Configuration configuration = Configuration.builder() //
+				.formatter(Integer.class, new IntegerFormatter()) //
+				.formatter(List.class, new ListFormatter()) //
+				.build();
+
+		Standings standings = new Standings(7, 12, new BigDecimal("12.5"), Arrays.asList("a", "b"),
+				new LinkedHashSet<>(Arrays.asList("c", "d")));
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=position} ${id=wins} ${id=points} ${id=drivers} ${id=teams}", configuration);
+
+		String expected = "#7 #12 12.5 [a|b] c, d";
+		String actual = format.format(standings, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	public static class Session {
+
+		private final Timestamp recorded;
+
+		private final LocalDateTime start;
+
+		private Session(Timestamp recorded, LocalDateTime start) {
+
+			this.recorded = recorded;
+			this.start = start;
+		}
+	}
+
+	public static class Standings {
+
+		private final int position;
+
+		private final Integer wins;
+
+		private final BigDecimal points;
+
+		private final List<String> drivers;
+
+		private final Set<String> teams;
+
+		private Standings(int position, Integer wins, BigDecimal points, List<String> drivers, Set<String> teams) {
+
+			this.position = position;
+			this.wins = wins;
+			this.points = points;
+			this.drivers = drivers;
+			this.teams = teams;
+		}
+	}
+
+	public static class Lap {
+		// Empty
+	}
+
+	public static class FastestLap extends Lap {
+		// Empty
+	}
+
+	public static class LapFormatter implements Formatter<Lap> {
+
+		@Override
+		public String format(ObjectHolder<Lap> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return "lap";
+		}
+	}
+
+	public static class IntegerFormatter implements Formatter<Integer> {
+
+		@Override
+		public String format(ObjectHolder<Integer> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return "#" + objectHolder.getObject();
+		}
+	}
+
+	public static class ListFormatter implements Formatter<List<?>> {
+
+		@Override
+		public String format(ObjectHolder<List<?>> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+
+			StringBuilder result = new StringBuilder("[");
+
+			for (Object item : objectHolder.getObject()) {
+
+				if (result.length() > 1) {
+					result.append('|');
+				}
+
+				result.append(item);
+			}
+
+			return result.append(']').toString();
+		}
+	}
+}
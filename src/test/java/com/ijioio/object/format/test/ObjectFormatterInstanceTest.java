@@ -0,0 +1,81 @@
+package com.ijioio.object.format.test;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.annotation.FormatElement;
+import com.ijioio.object.format.annotation.Stateless;
+import com.ijioio.object.format.formatter.Formatter;
+import com.ijioio.object.format.object.ObjectHolder;
+
+public class ObjectFormatterInstanceTest {
+
+	@Test
+	public void instanceTest() {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=first} ${id=second}");
+
+		for (int i = 0; i < 10; i++) {
+
+			String expected = "[SL] first [SF] second";
+			String actual = format.format(new Person("first", "second"), Locale.ENGLISH);
+
+			Assert.assertEquals(expected, actual);
+		}
+
+		Assert.assertEquals(1, StatelessFormatter.instances.get());
+		Assert.assertEquals(10, StatefulFormatter.instances.get());
+	}
+
+	public static class Person {
+
+		@FormatElement(formatter = StatelessFormatter.class)
+		private final String first;
+
+		@FormatElement(formatter = StatefulFormatter.class)
+		private final String second;
+
+		private Person(String first, String second) {
+
+			this.first = first;
+			this.second = second;
+		}
+	}
+
+	@Stateless
+	public static class StatelessFormatter implements Formatter<String> {
+
+		private static final AtomicInteger instances = new AtomicInteger();
+
+		public StatelessFormatter() {
+			instances.incrementAndGet();
+		}
+
+		@Override
+		public String format(ObjectHolder<String> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return Optional.ofNullable(objectHolder.getObject()).map(item -> "[SL] " + item).orElse(null);
+		}
+	}
+
+	public static class StatefulFormatter implements Formatter<String> {
+
+		private static final AtomicInteger instances = new AtomicInteger();
+
+		public StatefulFormatter() {
+			instances.incrementAndGet();
+		}
+
+		@Override
+		public String format(ObjectHolder<String> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return Optional.ofNullable(objectHolder.getObject()).map(item -> "[SF] " + item).orElse(null);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.ijioio.object.format.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.MappedReportWriter;
+import com.ijioio.object.format.ObjectFormatter;
+
+public class ObjectFormatterMappedReportTest {
+
+	private Path path;
+
+	@Before
+	public void setup() throws IOException {
+		path = Files.createTempFile("report", ".txt");
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	@Test
+	public void mappedReportTest() throws IOException {
+
+		Configuration configuration = Configuration.builder() //
+				.recordSeparatorSequence("\n") //
+				.build();
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName} ${id=lastName} '@' ${id=hotel} (${id=nights})",
+				configuration);
+
+		List<Guest> guests = new ArrayList<>();
+
+		for (int i = 0; i < 100; i++) {
+			guests.add(new Guest("Zo\u00EB" + i, "\u00D8deg\u00E5rd", "\uD83C\uDFE8 H\u00F4tel \u20AC", i));
+		}
+
+		StringBuilder expected = new StringBuilder();
+
+		format.formatAll(guests, Locale.ENGLISH, expected);
+
+		// Small regions so records and multibyte characters span the boundaries
+		try (MappedReportWriter writer = MappedReportWriter.open(format, path, Locale.ENGLISH, 7)) {
+
+			writer.write(guests.get(0));
+			writer.writeAll(guests.subList(1, guests.size()));
+		}
+
+		byte[] actual = Files.readAllBytes(path);
+
+		Assert.assertArrayEquals(expected.toString().getBytes(StandardCharsets.UTF_8), actual);
+	}
+
+	@Test
+	public void mappedReportSizeTest() throws IOException {
+
+		Configuration configuration = Configuration.builder() //
+				.recordSeparatorSequence("\n") //
+				.build();
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName}", configuration);
+
+		try (MappedReportWriter writer = MappedReportWriter.open(format, path, Locale.ENGLISH)) {
+
+			writer.writeAll(Arrays.asList(new Guest("Zo\u00EB", null, null, 0), new Guest("Ann", null, null, 0)));
+
+			Assert.assertEquals(8, writer.getSize());
+		}
+
+		Assert.assertEquals(8, Files.size(path));
+	}
+
+	@Test
+	public void mappedReportEmptyTest() throws IOException {
+
+		try (MappedReportWriter writer = MappedReportWriter.open(ObjectFormatter.of("${id=firstName}"), path)) {
+			Assert.assertEquals(0, writer.getSize());
+		}
+
+		Assert.assertEquals(0, Files.size(path));
+	}
+
+	@Test
+	public void mappedReportClosedTest() throws IOException {
+
+		MappedReportWriter writer = MappedReportWriter.open(ObjectFormatter.of("${id=firstName}"), path,
+				Locale.ENGLISH);
+
+		writer.write(new Guest("Ann", null, null, 0));
+		writer.close();
+
+		try {
+
+			writer.write(new Guest("Zo\u00EB", null, null, 0));
+
+			Assert.fail("writing expected to fail");
+
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+
+		Assert.assertEquals(3, writer.getSize());
+		Assert.assertEquals(3, Files.size(path));
+	}
+
+	public static class Guest {
+
+		private final String firstName;
+
+		private final String lastName;
+
+		private final String hotel;
+
+		private final int nights;
+
+		private Guest(String firstName, String lastName, String hotel, int nights) {
+
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.hotel = hotel;
+			this.nights = nights;
+		}
+	}
+}
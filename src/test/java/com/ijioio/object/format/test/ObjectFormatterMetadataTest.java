@@ -0,0 +1,80 @@
+package com.ijioio.object.format.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.annotation.FormatType;
+import com.ijioio.object.format.metadata.MetadataRegistry;
+import com.ijioio.object.format.metadata.ObjectMetadata;
+import com.ijioio.object.format.object.ObjectHolder;
+
+public class ObjectFormatterMetadataTest {
+
+	@Test
+	public void metadataSharedTest() {
+
+		Configuration configuration = Configuration.builder() //
+				.delegateConfiguration() //
+				.delegate(Passport.class, PassportDelegate.class) //
+				.end() //
+				.build();
+
+		Passport passport = new Passport("1234567890");
+
+		Assert.assertSame(ObjectHolder.of(passport).getMetadata(),
+				ObjectHolder.of(new Passport("0987654321")).getMetadata());
+		Assert.assertSame(ObjectHolder.of(passport, configuration).getMetadata(),
+				ObjectHolder.of(Passport.class, configuration).getMetadata());
+		Assert.assertNotSame(ObjectHolder.of(passport).getMetadata(),
+				ObjectHolder.of(passport, configuration).getMetadata());
+
+		Assert.assertSame(PassportDelegate.class, configuration.getDelegateConfiguration().getDelegate(Passport.class));
+		Assert.assertNull(Configuration.getDefault().getDelegateConfiguration().getDelegate(Passport.class));
+
+		Assert.assertTrue(ObjectHolder.of(passport, configuration).getMetadata().getAliases().contains("document"));
+		Assert.assertFalse(ObjectHolder.of(passport).getMetadata().getAliases().contains("document"));
+	}
+
+	@Test
+	public void metadataRemoveTest() {
+
+		Configuration configuration = Configuration.builder() //
+				.delegateConfiguration() //
+				.delegate(Passport.class, PassportDelegate.class) //
+				.end() //
+				.build();
+
+		ObjectMetadata metadata = ObjectHolder.of(Passport.class).getMetadata();
+		ObjectMetadata delegatedMetadata = ObjectHolder.of(Passport.class, configuration).getMetadata();
+
+		Assert.assertSame(delegatedMetadata,
+				MetadataRegistry.get().getMetadata(Passport.class, PassportDelegate.class));
+
+		MetadataRegistry.get().remove(Passport.class);
+
+		Assert.assertNotSame(metadata, ObjectHolder.of(Passport.class).getMetadata());
+		Assert.assertNotSame(delegatedMetadata, ObjectHolder.of(Passport.class, configuration).getMetadata());
+		Assert.assertSame(ObjectHolder.of(Passport.class, configuration).getMetadata(),
+				ObjectHolder.of(new Passport("1234567890"), configuration).getMetadata());
+	}
+
+	public static class Passport {
+
+		private final String number;
+
+		private Passport(String number) {
+			this.number = number;
+		}
+
+		public String getNumber() {
+			return number;
+		}
+	}
+
+	@FormatType("document")
+	public static class PassportDelegate {
+
+		private String number;
+	}
+}
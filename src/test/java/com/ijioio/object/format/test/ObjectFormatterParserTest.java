@@ -0,0 +1,116 @@
+package com.ijioio.object.format.test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.PatternSyntaxException;
+
+public class ObjectFormatterParserTest {
+
+	@Test
+	public void parseNestedTest() {
+
+		Contact contact = new Contact(null, null, "lewis@example.com");
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=name|default=${id=login|default=${id=email}}} '${'${id=${id=field}}'}'");
+
+		String expected = "lewis@example.com ${lewis@example.com}";
+		String actual = format.format(contact, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void parseDeeplyNestedTest() {
+
+		Contact contact = new Contact(null, null, "lewis@example.com");
+
+		int depth = 512;
+
+		StringBuilder pattern = new StringBuilder();
+
+		for (int i = 0; i < depth; i++) {
+			pattern.append("${id=name|default=");
+		}
+
+		pattern.append("${email}");
+
+		for (int i = 0; i < depth; i++) {
+			pattern.append("}");
+		}
+
+		String expected = "lewis@example.com";
+		String actual = ObjectFormatter.of(pattern.toString()).format(contact, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void parseConstantTest() {
+
+		Contact contact = new Contact(null, "lewis", "lewis@example.com");
+
+		ObjectFormatter format = ObjectFormatter.of("'${'login'}': '['${id=login}']' "
+				+ "${id=aliases|separator=', '} ${id=name|default='n/a'}");
+
+		String expected = "${login}: [lewis] lewis, lh44 n/a";
+		String actual = format.format(contact, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void parseErrorTest() {
+
+		assertError("missing end of variable", 2, "${id=name|default=${id=login}");
+		assertError("missing end of escape sequence", 5, "${id='name}");
+		assertError("missing start of variable", 7, "${name}}");
+		assertError("missing variable property name", 7, "${name|=login}");
+		assertError("missing variable property value", 10, "${name|id=}");
+		assertError("missing mandatory variable property \"id\"", 15, "${default=login}");
+		assertError("unsupported variable property \"name\"", 2, "${name=login}");
+		assertError("unsupported variable property \"name${login}\"", 2, "${name${login}=email}");
+		assertError("id property value already defined", 7, "${name|id=login}");
+	}
+
+	private static void assertError(String description, int index, String pattern) {
+
+		try {
+
+			ObjectFormatter.of(pattern);
+
+			Assert.fail(String.format("pattern %s expected to be invalid", pattern));
+
+		} catch (PatternSyntaxException e) {
+
+			Assert.assertEquals(description, e.getDescription());
+			Assert.assertEquals(index, e.getIndex());
+		}
+	}
+
+	public static class Contact {
+
+		private final String name;
+
+		private final String login;
+
+		private final String email;
+
+		private final String field = "email";
+
+		private final List<String> aliases = Arrays.asList("lewis", "lh44");
+
+		private Contact(String name, String login, String email) {
+
+			this.name = name;
+			this.login = login;
+			this.email = email;
+		}
+	}
+}
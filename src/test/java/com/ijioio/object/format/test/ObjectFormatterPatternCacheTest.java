@@ -0,0 +1,157 @@
+package com.ijioio.object.format.test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.cache.Cache;
+import com.ijioio.object.format.cache.PatternCache;
+
+public class ObjectFormatterPatternCacheTest {
+
+	@Test
+	public void patternCacheTest() {
+
+		Team team = new Team(Arrays.asList(new Driver("Lewis", "Hamilton"), new Driver("George", "Russell")));
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=drivers|pattern=${id=lastName} ${id=firstName}|separator=; }");
+
+		long missCount = PatternCache.get().getMissCount();
+		long hitCount = PatternCache.get().getHitCount();
+
+		for (int i = 0; i < 10; i++) {
+
+			String expected = "Hamilton Lewis; Russell George";
+			String actual = format.format(team, Locale.ENGLISH);
+
+			Assert.assertEquals(expected, actual);
+		}
+
+		Assert.assertTrue(PatternCache.get().getMissCount() - missCount <= 1);
+		Assert.assertTrue(PatternCache.get().getHitCount() - hitCount >= 9);
+	}
+
+	@Test
+	public void cachedTest() {
+
+		String pattern = "${id=lastName}, ${id=firstName}";
+
+		Assert.assertSame(ObjectFormatter.cached(pattern), ObjectFormatter.cached(pattern));
+		Assert.assertNotSame(ObjectFormatter.of(pattern), ObjectFormatter.of(pattern));
+
+		Assert.assertEquals("Hamilton, Lewis", ObjectFormatter.cached(pattern).format(new Driver("Lewis", "Hamilton")));
+	}
+
+	@Test
+	public void cachedConfigurationTest() {
+
+		String pattern = "${id=lastName}, ${id=firstName}";
+
+		Configuration configuration = Configuration.builder() //
+				.separatorSequence("; ") //
+				.parserConfiguration() //
+				.escapeSequence("`") //
+				.end() //
+				.build();
+
+		Assert.assertEquals(configuration, Configuration.builder() //
+				.separatorSequence("; ") //
+				.parserConfiguration() //
+				.escapeSequence("`") //
+				.end() //
+				.build());
+		Assert.assertEquals(Configuration.getDefault(), Configuration.builder().build());
+		Assert.assertNotEquals(Configuration.getDefault(), configuration);
+
+		Assert.assertSame(ObjectFormatter.cached(pattern),
+				ObjectFormatter.cached(pattern, Configuration.builder().build()));
+		Assert.assertNotSame(ObjectFormatter.cached(pattern), ObjectFormatter.cached(pattern, configuration));
+	}
+
+	@Test
+	public void cacheBoundTest() {
+
+		Cache<Integer, String> cache = Cache.<Integer, String>builder().maximumSize(4).build();
+
+		for (int i = 0; i < 10; i++) {
+			cache.get(i, String::valueOf);
+		}
+
+		Assert.assertEquals(4, cache.size());
+		Assert.assertEquals(6, cache.getEvictionCount());
+	}
+
+	@Test
+	public void cacheLeastRecentlyUsedTest() {
+
+		Cache<Integer, String> cache = Cache.<Integer, String>builder().maximumSize(2).build();
+
+		cache.get(1, String::valueOf);
+		cache.get(2, String::valueOf);
+		cache.get(1, String::valueOf);
+		cache.get(3, String::valueOf);
+
+		long missCount = cache.getMissCount();
+
+		// Recently read entry survives, the other one is evicted
+		cache.get(1, String::valueOf);
+
+		Assert.assertEquals(missCount, cache.getMissCount());
+
+		cache.get(2, String::valueOf);
+
+		Assert.assertEquals(missCount + 1, cache.getMissCount());
+		Assert.assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void cacheWeakValuesTest() throws Exception {
+
+		Cache<Integer, Object> cache = Cache.<Integer, Object>builder().weakValues().build();
+
+		Object value = cache.get(1, key -> new Object());
+
+		Assert.assertSame(value, cache.get(1, key -> new Object()));
+
+		value = null;
+
+		for (int i = 0; i < 10 && cache.getEvictionCount() == 0; i++) {
+
+			System.gc();
+
+			Thread.sleep(10);
+
+			cache.get(2, key -> new Object());
+		}
+
+		Assert.assertTrue(cache.getEvictionCount() > 0);
+	}
+
+	public static class Team {
+
+		private final List<Driver> drivers;
+
+		private Team(List<Driver> drivers) {
+			this.drivers = drivers;
+		}
+	}
+
+	public static class Driver {
+
+		private final String firstName;
+
+		private final String lastName;
+
+		private Driver(String firstName, String lastName) {
+
+			this.firstName = firstName;
+			this.lastName = lastName;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.ijioio.object.format.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.PipelinedReportWriter;
+import com.ijioio.object.format.exception.FormatException;
+
+public class ObjectFormatterPipelinedReportTest {
+
+	private Path path;
+
+	@Before
+	public void setup() throws IOException {
+		path = Files.createTempFile("report", ".txt");
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	@Test
+	public void pipelinedReportTest() throws IOException {
+
+		Configuration configuration = Configuration.builder() //
+				.recordSeparatorSequence("\n") //
+				.build();
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName} ${id=lastName} '@' ${id=hotel} (${id=nights})",
+				configuration);
+
+		List<Guest> guests = new ArrayList<>();
+
+		for (int i = 0; i < 10000; i++) {
+			guests.add(new Guest("Zo\u00EB" + i, "\u00D8deg\u00E5rd", "\uD83C\uDFE8 H\u00F4tel \u20AC", i));
+		}
+
+		StringBuilder expected = new StringBuilder();
+
+		format.formatAll(guests, Locale.ENGLISH, expected);
+
+		// Small buffers so they have to grow to fit the chunks
+		try (PipelinedReportWriter writer = PipelinedReportWriter.open(format, path, Locale.ENGLISH, 4, 16)) {
+
+			writer.writeAll(guests.subList(0, 3000));
+			writer.writeAll(guests.subList(3000, guests.size()));
+
+			Assert.assertEquals(expected.toString().getBytes(StandardCharsets.UTF_8).length, writer.getSize());
+		}
+
+		byte[] actual = Files.readAllBytes(path);
+
+		Assert.assertArrayEquals(expected.toString().getBytes(StandardCharsets.UTF_8), actual);
+	}
+
+	@Test
+	public void pipelinedReportFailureTest() throws IOException {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName|padding=${id=hotel}}");
+
+		List<Guest> guests = new ArrayList<>();
+
+		for (int i = 0; i < 10000; i++) {
+			guests.add(new Guest("Zo\u00EB" + i, null, i == 5000 ? "invalid" : "10", i));
+		}
+
+		try (PipelinedReportWriter writer = PipelinedReportWriter.open(format, path, Locale.ENGLISH, 2)) {
+
+			try {
+
+				writer.writeAll(guests);
+
+				Assert.fail("writing expected to fail");
+
+			} catch (FormatException e) {
+				// Expected
+			}
+		}
+	}
+
+	public static class Guest {
+
+		private final String firstName;
+
+		private final String lastName;
+
+		private final String hotel;
+
+		private final int nights;
+
+		private Guest(String firstName, String lastName, String hotel, int nights) {
+
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.hotel = hotel;
+			this.nights = nights;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.ijioio.object.format.test;
+
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.annotation.FormatElement;
+import com.ijioio.object.format.formatter.Formatter;
+import com.ijioio.object.format.formatter.IntFormatter;
+import com.ijioio.object.format.object.ObjectHolder;
+
+public class ObjectFormatterPrimitiveTest {
+
+	@Test
+	public void primitiveTest() {
+
+		Lap lap = new Lap(7, 44, 83456789012L, 231.5, (short) 3, (byte) 1);
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=number} ${id=driver} ${id=time} ${id=speed} ${id=position} ${id=stops}");
+
+		String expected = "007 44 83456789012 231.5 3 1";
+		String actual = format.format(lap, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void primitivePatternTest() {
+
+		Lap lap = new Lap(7, 44, 83456789012L, 231.5, (short) 3, (byte) 1);
+
+		ObjectFormatter format = ObjectFormatter.of("${id=time|pattern=#,##0} ${id=speed|pattern=0.00}");
+
+		String expected = "83,456,789,012 231.50";
+		String actual = format.format(lap, Locale.ENGLISH);
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	public static class Lap {
+
+		@FormatElement(formatter = PaddedIntFormatter.class)
+		private final int number;
+
+		private final int driver;
+
+		private final long time;
+
+		private final double speed;
+
+		private final short position;
+
+		private final byte stops;
+
+		private Lap(int number, int driver, long time, double speed, short position, byte stops) {
+
+			this.number = number;
+			this.driver = driver;
+			this.time = time;
+			this.speed = speed;
+			this.position = position;
+			this.stops = stops;
+		}
+	}
+
+	public static class PaddedIntFormatter implements Formatter<Integer>, IntFormatter {
+
+		@Override
+		public String format(ObjectHolder<Integer> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			throw new UnsupportedOperationException("boxed value must not be formatted");
+		}
+
+		@Override
+		public void formatInt(int value, Configuration configuration, String pattern, Locale locale,
+				Appendable appendable) throws Exception {
+
+			if (value < 100) {
+				appendable.append('0');
+			}
+
+			if (value < 10) {
+				appendable.append('0');
+			}
+
+			appendable.append(String.valueOf(value));
+		}
+	}
+}
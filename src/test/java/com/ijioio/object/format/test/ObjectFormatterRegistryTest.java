@@ -0,0 +1,132 @@
+package com.ijioio.object.format.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.converter.Converter;
+import com.ijioio.object.format.converter.ConverterRegistry;
+import com.ijioio.object.format.formatter.Formatter;
+import com.ijioio.object.format.formatter.FormatterRegistry;
+import com.ijioio.object.format.object.ObjectHolder;
+
+public class ObjectFormatterRegistryTest {
+
+	@Test
+	public void registryVersionTest() {
+
+		long formatterVersion = FormatterRegistry.get().getVersion();
+		long converterVersion = ConverterRegistry.get().getVersion();
+
+		FormatterRegistry.get().register(Circuit.class, new CircuitFormatter());
+		ConverterRegistry.get().register(Track.class, new TrackConverter());
+
+		Assert.assertTrue(FormatterRegistry.get().getVersion() > formatterVersion);
+		Assert.assertTrue(ConverterRegistry.get().getVersion() > converterVersion);
+
+		Assert.assertTrue(FormatterRegistry.get().getFormatter(Circuit.class) instanceof CircuitFormatter);
+		Assert.assertTrue(ConverterRegistry.get().getConverter(Track.class) instanceof TrackConverter);
+	}
+
+	@Test
+	public void registryConcurrentTest() throws Exception {
+
+		FormatterRegistry.get().register(Circuit.class, new CircuitFormatter());
+
+		ObjectFormatter format = ObjectFormatter.of("${id=circuit}");
+
+		Race race = new Race(new Circuit("Silverstone"));
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		List<Thread> threads = new ArrayList<>();
+
+		for (int i = 0; i < 4; i++) {
+
+			threads.add(new Thread(() -> {
+
+				try {
+
+					for (int j = 0; j < 1000; j++) {
+						Assert.assertEquals("Silverstone", format.format(race, Locale.ENGLISH));
+					}
+
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+		}
+
+		threads.forEach(Thread::start);
+
+		// Registrations of unrelated types must not affect lookups in progress
+		for (int i = 0; i < 100; i++) {
+			FormatterRegistry.get().register(Track.class, new TrackFormatter());
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Assert.assertNull(failure.get());
+	}
+
+	public static class Race {
+
+		private final Circuit circuit;
+
+		private Race(Circuit circuit) {
+			this.circuit = circuit;
+		}
+	}
+
+	public static class Circuit {
+
+		private final String name;
+
+		private Circuit(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class Track {
+		// Empty
+	}
+
+	public static class CircuitFormatter implements Formatter<Circuit> {
+
+		@Override
+		public String format(ObjectHolder<Circuit> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return objectHolder.getObject() != null ? objectHolder.getObject().name : null;
+		}
+	}
+
+	public static class TrackFormatter implements Formatter<Track> {
+
+		@Override
+		public String format(ObjectHolder<Track> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return "track";
+		}
+	}
+
+	public static class TrackConverter implements Converter<Track, String> {
+
+		@Override
+		public Class<String> getType() {
+			return String.class;
+		}
+
+		@Override
+		public String convert(Track value) throws Exception {
+			return "track";
+		}
+	}
+}
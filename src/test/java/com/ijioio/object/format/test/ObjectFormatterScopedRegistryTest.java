@@ -0,0 +1,122 @@
+package com.ijioio.object.format.test;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.Configuration;
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.converter.Converter;
+import com.ijioio.object.format.formatter.DateFormatter;
+import com.ijioio.object.format.formatter.Formatter;
+import com.ijioio.object.format.formatter.FormatterRegistry;
+import com.ijioio.object.format.object.ObjectHolder;
+
+public class ObjectFormatterScopedRegistryTest {
+
+	@Test
+	public void scopedRegistryTest() {
+
+		Race race = new Race(new GregorianCalendar(2021, Calendar.JULY, 18).getTime(), new Circuit("Silverstone"));
+
+		String pattern = "${id=date} ${id=circuit}";
+
+		ObjectFormatter first = ObjectFormatter.of(pattern, Configuration.builder() //
+				.formatter(Date.class, new YearFormatter()) //
+				.converter(Circuit.class, new CircuitConverter()) //
+				.build());
+
+		ObjectFormatter second = ObjectFormatter.of(pattern, Configuration.builder() //
+				.formatter(Date.class, new EpochFormatter()) //
+				.formatter(Circuit.class, new CircuitFormatter()) //
+				.build());
+
+		Assert.assertEquals("2021 SILVERSTONE", first.format(race, Locale.ENGLISH));
+		Assert.assertEquals(race.date.getTime() + " [Silverstone]", second.format(race, Locale.ENGLISH));
+
+		Assert.assertTrue(FormatterRegistry.get().getFormatter(Date.class) instanceof DateFormatter);
+		Assert.assertSame(FormatterRegistry.get(), Configuration.getDefault().getFormatterRegistry());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void scopedRegistryImmutableTest() {
+		FormatterRegistry.get().scoped(Collections.emptyMap()).register(Date.class, new YearFormatter());
+	}
+
+	public static class Race {
+
+		private final Date date;
+
+		private final Circuit circuit;
+
+		private Race(Date date, Circuit circuit) {
+
+			this.date = date;
+			this.circuit = circuit;
+		}
+	}
+
+	public static class Circuit {
+
+		private final String name;
+
+		private Circuit(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	public static class YearFormatter implements Formatter<Date> {
+
+		@Override
+		public String format(ObjectHolder<Date> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+
+			Calendar calendar = Calendar.getInstance();
+
+			calendar.setTime(objectHolder.getObject());
+
+			return String.valueOf(calendar.get(Calendar.YEAR));
+		}
+	}
+
+	public static class EpochFormatter implements Formatter<Date> {
+
+		@Override
+		public String format(ObjectHolder<Date> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return String.valueOf(objectHolder.getObject().getTime());
+		}
+	}
+
+	public static class CircuitFormatter implements Formatter<Circuit> {
+
+		@Override
+		public String format(ObjectHolder<Circuit> objectHolder, Configuration configuration, String separator,
+				String pattern, Locale locale) throws Exception {
+			return "[" + objectHolder.getObject().name + "]";
+		}
+	}
+
+	public static class CircuitConverter implements Converter<Circuit, String> {
+
+		@Override
+		public Class<String> getType() {
+			return String.class;
+		}
+
+		@Override
+		public String convert(Circuit value) throws Exception {
+			return value.name.toUpperCase(Locale.ENGLISH);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.ijioio.object.format.test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.exception.FormatException;
+import com.ijioio.object.format.sink.Utf8Sink;
+
+public class ObjectFormatterSinkTest {
+
+	@Test
+	public void formatToByteBufferTest() {
+
+		Guest guest = new Guest("Zo\u00EB", "\u00D8deg\u00E5rd", "\uD83C\uDFE8 H\u00F4tel \u20AC", 2);
+
+		ObjectFormatter format = ObjectFormatter.of("\u0413\u043E\u0441\u0442\u044C: ${id=firstName} "
+				+ "${id=lastName} '@' ${id=hotel} (${id=nights}) ${id=missing|default=\u2014}");
+
+		byte[] expected = format.format(guest, Locale.ENGLISH).getBytes(StandardCharsets.UTF_8);
+
+		for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(256), ByteBuffer.allocateDirect(256))) {
+
+			buffer.put((byte) '>');
+
+			format.formatTo(guest, Locale.ENGLISH, buffer);
+
+			buffer.flip();
+
+			Assert.assertEquals('>', buffer.get());
+
+			byte[] actual = new byte[buffer.remaining()];
+
+			buffer.get(actual);
+
+			Assert.assertArrayEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void sinkSurrogatesTest() throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+
+		Utf8Sink sink = new Utf8Sink(buffer);
+
+		sink.append("a\uD83C").append("\uDFE8b").append('\uDC00').append("c\uD83C").append('d').append("\uD83C");
+
+		sink.finish();
+
+		buffer.flip();
+
+		byte[] actual = new byte[buffer.remaining()];
+
+		buffer.get(actual);
+
+		Assert.assertArrayEquals("a\uD83C\uDFE8b?c?d?".getBytes(StandardCharsets.UTF_8), actual);
+	}
+
+	@Test
+	public void formatToByteBufferOverflowTest() {
+
+		ByteBuffer buffer = ByteBuffer.allocate(8);
+
+		buffer.put((byte) '>');
+		buffer.limit(5);
+
+		try {
+
+			ObjectFormatter.of("${id=hotel}").formatTo(new Guest("Zo\u00EB", "\u00D8deg\u00E5rd", "H\u00F4tel", 2),
+					Locale.ENGLISH, buffer);
+
+			Assert.fail("formatting expected to fail");
+
+		} catch (FormatException e) {
+			// Expected
+		}
+
+		Assert.assertEquals(1, buffer.position());
+	}
+
+	public static class Guest {
+
+		private final String firstName;
+
+		private final String lastName;
+
+		private final String hotel;
+
+		private final int nights;
+
+		private final String missing = null;
+
+		private Guest(String firstName, String lastName, String hotel, int nights) {
+
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.hotel = hotel;
+			this.nights = nights;
+		}
+	}
+}
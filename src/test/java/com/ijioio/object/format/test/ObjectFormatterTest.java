@@ -1,7 +1,13 @@
 package com.ijioio.object.format.test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.Assert;
@@ -9,6 +15,7 @@ import org.junit.Test;
 
 import com.ijioio.object.format.Configuration;
 import com.ijioio.object.format.ObjectFormatter;
+import com.ijioio.object.format.exception.FormatException;
 
 public class ObjectFormatterTest {
 
@@ -129,6 +136,50 @@ public class ObjectFormatterTest {
 		Assert.assertEquals(expected, actual);
 	}
 
+	@Test
+	public void formatToWriter() {
+
+		F1Driver driver = F1Driver.builder() //
+				.firstName("Lewis") //
+				.lastName(null) //
+				.birthdate(LocalDate.of(1985, Month.JANUARY, 7)) //
+				.build();
+
+		ObjectFormatter format = ObjectFormatter
+				.of("${id=firstName} ${id=lastName|default=Anonymous} ${id=birthdate|pattern=yyyy.MM.dd}");
+
+		StringWriter writer = new StringWriter();
+
+		writer.append("Driver: ");
+
+		format.formatTo(driver, Locale.ENGLISH, writer);
+
+		String expected = "Driver: Lewis Anonymous 1985.01.07";
+		String actual = writer.toString();
+
+		Assert.assertEquals(expected, actual);
+	}
+
+	@Test
+	public void formatToOutputStream() {
+
+		F1Driver driver = F1Driver.builder() //
+				.firstName("Kimi") //
+				.lastName("R\u00e4ikk\u00f6nen") //
+				.build();
+
+		ObjectFormatter format = ObjectFormatter.of("${id=firstName} ${id=lastName}");
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		format.formatTo(driver, Locale.ENGLISH, outputStream, StandardCharsets.UTF_8);
+
+		String expected = "Kimi R\u00e4ikk\u00f6nen";
+		String actual = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+
+		Assert.assertEquals(expected, actual);
+	}
+
 	@Test
 	public void parserConfigurationCustomEscapeSequence() {
 
@@ -267,7 +318,86 @@ public class ObjectFormatterTest {
 		Assert.assertEquals(expected, actual);
 	}
 
-	static class F1Driver {
+	@Test
+	public void formatVariableOfDifferentTypes() {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=name} #${id=number}");
+
+		// Anonymous subclasses are distinct types, more than fit the property cache
+		List<Object> objects = Arrays.asList(new Car("SF-24", 16), new Team(44, "Mercedes"), new Car("RB20", 1) {
+		}, new Team(4, "McLaren") {
+		}, new Car("W15", 63) {
+		}, new Team(14, "Aston Martin") {
+		});
+
+		for (int i = 0; i < 3; i++) {
+
+			List<String> actual = new ArrayList<>();
+
+			for (Object object : objects) {
+				actual.add(format.format(object, Locale.ENGLISH));
+			}
+
+			Assert.assertEquals(Arrays.asList("SF-24 #16", "Mercedes #44", "RB20 #1", "McLaren #4", "W15 #63",
+					"Aston Martin #14"), actual);
+		}
+	}
+
+	@Test
+	public void formatVariableOfDynamicId() {
+
+		ObjectFormatter constantFormat = ObjectFormatter.of("${id=name}");
+		ObjectFormatter dynamicFormat = ObjectFormatter.of("${id=${id=key}}");
+
+		for (Object object : Arrays.asList(new Car("SF-24", 16), new Team(44, "Mercedes"))) {
+			Assert.assertEquals(constantFormat.format(object, Locale.ENGLISH),
+					dynamicFormat.format(object, Locale.ENGLISH));
+		}
+	}
+
+	@Test
+	public void formatVariableOfObjectId() {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=com.ijioio.object.format.test.ObjectFormatterTest$Team:name}");
+
+		for (int i = 0; i < 3; i++) {
+
+			Assert.assertEquals("Mercedes", format.format(new Team(44, "Mercedes"), Locale.ENGLISH));
+
+			try {
+
+				format.format(new Car("SF-24", 16), Locale.ENGLISH);
+
+				Assert.fail("object id expected not to match");
+
+			} catch (FormatException e) {
+				// Expected
+			}
+		}
+	}
+
+	@Test
+	public void formatVariableOfMissingProperty() {
+
+		ObjectFormatter format = ObjectFormatter.of("${id=team}");
+
+		for (int i = 0; i < 3; i++) {
+
+			Assert.assertEquals("Ferrari", format.format(new Car("SF-24", 16, "Ferrari"), Locale.ENGLISH));
+
+			try {
+
+				format.format(new Team(44, "Mercedes"), Locale.ENGLISH);
+
+				Assert.fail("property expected to be missing");
+
+			} catch (FormatException e) {
+				// Expected
+			}
+		}
+	}
+
+	public static class F1Driver {
 
 		public static F1DriverBuilder builder() {
 			return new F1DriverBuilder();
@@ -316,7 +446,7 @@ public class ObjectFormatterTest {
 		}
 	}
 
-	static class F1DriverBuilder {
+	public static class F1DriverBuilder {
 
 		private String firstName;
 
@@ -358,4 +488,41 @@ public class ObjectFormatterTest {
 			return new F1Driver(this);
 		}
 	}
+
+	public static class Car {
+
+		private final String key = "name";
+
+		private final String name;
+
+		private final int number;
+
+		private final String team;
+
+		private Car(String name, int number) {
+			this(name, number, null);
+		}
+
+		private Car(String name, int number, String team) {
+
+			this.name = name;
+			this.number = number;
+			this.team = team;
+		}
+	}
+
+	public static class Team {
+
+		private final int number;
+
+		private final String name;
+
+		private final String key = "name";
+
+		private Team(int number, String name) {
+
+			this.number = number;
+			this.name = name;
+		}
+	}
 }